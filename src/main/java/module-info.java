@@ -7,12 +7,16 @@
  */
 module org.jfree.chart.fx {
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
     requires javafx.base;
     requires javafx.graphics;
     requires javafx.controls;
     requires org.jfree.fxgraphics2d;
     requires org.jfree.jfreechart;
     exports org.jfree.chart.fx;
+    exports org.jfree.chart.fx.data;
     exports org.jfree.chart.fx.interaction;
     exports org.jfree.chart.fx.overlay;
+    exports org.jfree.chart.fx.renderer;
 }
\ No newline at end of file
@@ -0,0 +1,468 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * BatchChartExporter.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import javax.imageio.ImageIO;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.util.Args;
+
+/**
+ * Exports many charts to PNG or JPEG images in parallel, for example from a
+ * scheduled job.  Each {@link Job} names a chart, the image size and format
+ * and a {@link Target} that opens the stream the encoded image is written
+ * to.  The charts are drawn and encoded on a bounded pool of threads (or,
+ * optionally, on virtual threads with the same bound), and a {@link Result}
+ * is returned for every job with its timings and, if it failed, the
+ * exception.  A failure does not affect the other jobs.
+ * <p>
+ * The exporter does not need the JavaFX toolkit.  The charts (and their
+ * datasets) must not be modified, by any thread, while they are exported,
+ * since the exporter takes no lock that other code could also take.  A
+ * chart that appears in more than one job is drawn by one thread at a
+ * time.</p>
+ */
+public class BatchChartExporter {
+
+    /**
+     * The image formats supported by the exporter.
+     */
+    public enum Format {
+
+        /** The PNG format (with transparency). */
+        PNG("png", BufferedImage.TYPE_INT_ARGB),
+
+        /** The JPEG format. */
+        JPEG("jpg", BufferedImage.TYPE_INT_RGB);
+
+        /** The ImageIO format name. */
+        private final String formatName;
+
+        /** The type of the image that the chart is drawn into. */
+        private final int imageType;
+
+        Format(String formatName, int imageType) {
+            this.formatName = formatName;
+            this.imageType = imageType;
+        }
+    }
+
+    /**
+     * The destination for an exported image.
+     */
+    @FunctionalInterface
+    public interface Target {
+
+        /**
+         * Opens the stream that the image is written to.  The exporter
+         * closes the stream when the image has been written.
+         *
+         * @return The output stream (never {@code null}).
+         *
+         * @throws IOException if the stream cannot be opened.
+         */
+        OutputStream open() throws IOException;
+    }
+
+    /**
+     * A chart to export, with the image size, format and destination.
+     */
+    public static final class Job {
+
+        /** The chart. */
+        private final JFreeChart chart;
+
+        /** The image width. */
+        private final int width;
+
+        /** The image height. */
+        private final int height;
+
+        /** The image format. */
+        private final Format format;
+
+        /** The destination. */
+        private final Target target;
+
+        /**
+         * Creates a new job.
+         *
+         * @param chart  the chart ({@code null} not permitted).
+         * @param width  the image width (in pixels, greater than zero).
+         * @param height  the image height (in pixels, greater than zero).
+         * @param format  the image format ({@code null} not permitted).
+         * @param target  the destination ({@code null} not permitted).
+         */
+        public Job(JFreeChart chart, int width, int height, Format format,
+                Target target) {
+            Args.nullNotPermitted(chart, "chart");
+            Args.requireInRange(width, "width", 1, Integer.MAX_VALUE);
+            Args.requireInRange(height, "height", 1, Integer.MAX_VALUE);
+            Args.nullNotPermitted(format, "format");
+            Args.nullNotPermitted(target, "target");
+            this.chart = chart;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.target = target;
+        }
+
+        /**
+         * Returns the chart.
+         *
+         * @return The chart (never {@code null}).
+         */
+        public JFreeChart getChart() {
+            return this.chart;
+        }
+
+        /**
+         * Returns the image width.
+         *
+         * @return The image width (in pixels).
+         */
+        public int getWidth() {
+            return this.width;
+        }
+
+        /**
+         * Returns the image height.
+         *
+         * @return The image height (in pixels).
+         */
+        public int getHeight() {
+            return this.height;
+        }
+
+        /**
+         * Returns the image format.
+         *
+         * @return The image format (never {@code null}).
+         */
+        public Format getFormat() {
+            return this.format;
+        }
+
+        /**
+         * Returns the destination.
+         *
+         * @return The destination (never {@code null}).
+         */
+        public Target getTarget() {
+            return this.target;
+        }
+    }
+
+    /**
+     * The outcome of a {@link Job}.
+     */
+    public static final class Result {
+
+        /** The job. */
+        private final Job job;
+
+        /** The time taken to draw the chart (in nanoseconds). */
+        private final long renderTime;
+
+        /** The time taken to encode and write the image (in nanoseconds). */
+        private final long encodeTime;
+
+        /** The exception that stopped the job ({@code null} on success). */
+        private final Throwable error;
+
+        /**
+         * Creates a new result.
+         *
+         * @param job  the job.
+         * @param renderTime  the time taken to draw the chart.
+         * @param encodeTime  the time taken to encode and write the image.
+         * @param error  the error ({@code null} on success).
+         */
+        Result(Job job, long renderTime, long encodeTime, Throwable error) {
+            this.job = job;
+            this.renderTime = renderTime;
+            this.encodeTime = encodeTime;
+            this.error = error;
+        }
+
+        /**
+         * Returns the job.
+         *
+         * @return The job (never {@code null}).
+         */
+        public Job getJob() {
+            return this.job;
+        }
+
+        /**
+         * Returns {@code true} if the image was written, and {@code false}
+         * otherwise.
+         *
+         * @return A boolean.
+         */
+        public boolean isSuccess() {
+            return this.error == null;
+        }
+
+        /**
+         * Returns the exception that stopped the job.
+         *
+         * @return The exception ({@code null} if the job succeeded).
+         */
+        public Throwable getError() {
+            return this.error;
+        }
+
+        /**
+         * Returns the time taken to draw the chart into an image.
+         *
+         * @return The time (in nanoseconds).
+         */
+        public long getRenderTime() {
+            return this.renderTime;
+        }
+
+        /**
+         * Returns the time taken to encode the image and write it to the
+         * target (zero if the job failed before this step).
+         *
+         * @return The time (in nanoseconds).
+         */
+        public long getEncodeTime() {
+            return this.encodeTime;
+        }
+    }
+
+    /** The maximum number of jobs that run at the same time. */
+    private int parallelism;
+
+    /** Whether the jobs run on virtual threads. */
+    private boolean virtualThreads;
+
+    /**
+     * Creates a new exporter that runs as many jobs at the same time as
+     * there are processors.
+     */
+    public BatchChartExporter() {
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.virtualThreads = false;
+    }
+
+    /**
+     * Returns the maximum number of jobs that run at the same time.  The
+     * default value is the number of available processors.
+     *
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Sets the maximum number of jobs that run at the same time.
+     *
+     * @param parallelism  the parallelism (greater than zero).
+     */
+    public void setParallelism(int parallelism) {
+        Args.requireInRange(parallelism, "parallelism", 1,
+                Integer.MAX_VALUE);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the flag that controls whether the jobs run on virtual
+     * threads.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     */
+    public boolean isVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    /**
+     * Sets the flag that controls whether the jobs run on virtual threads
+     * (one per job) instead of a fixed pool of platform threads.  The number
+     * of jobs that run at the same time is limited by the parallelism in
+     * either case.  Virtual threads help when the targets are slow to write
+     * to (for example network streams).
+     *
+     * @param virtual  the new flag value.
+     */
+    public void setVirtualThreads(boolean virtual) {
+        this.virtualThreads = virtual;
+    }
+
+    /**
+     * Exports the charts for the specified jobs and waits until all the
+     * jobs have finished.
+     *
+     * @param jobs  the jobs ({@code null} not permitted).
+     *
+     * @return The results, in the same order as the jobs.
+     *
+     * @throws InterruptedException if the calling thread is interrupted
+     *     while waiting (the jobs that have not started are cancelled).
+     */
+    public List<Result> export(Collection<Job> jobs)
+            throws InterruptedException {
+        Args.nullNotPermitted(jobs, "jobs");
+        List<Job> jobList = new ArrayList<>(jobs);
+        List<Result> results = new ArrayList<>(jobList.size());
+        if (jobList.isEmpty()) {
+            return results;
+        }
+        Semaphore permits = this.virtualThreads
+                ? new Semaphore(this.parallelism) : null;
+        // a private lock for each chart, so that a chart is not drawn by
+        // two threads at once
+        Map<JFreeChart, Object> locks = new IdentityHashMap<>();
+        List<Callable<Result>> tasks = new ArrayList<>(jobList.size());
+        for (Job job : jobList) {
+            Object lock = locks.computeIfAbsent(job.chart, c -> new Object());
+            tasks.add(() -> {
+                if (permits == null) {
+                    return run(job, lock);
+                }
+                permits.acquire();
+                try {
+                    return run(job, lock);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        ExecutorService executor = createExecutor(jobList.size());
+        try {
+            List<Future<Result>> futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    // an error (not an exception) escaped from the job
+                    results.add(new Result(jobList.get(i), 0L, 0L,
+                            e.getCause()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Creates the executor for a batch.
+     *
+     * @param jobCount  the number of jobs in the batch.
+     *
+     * @return The executor.
+     */
+    private ExecutorService createExecutor(int jobCount) {
+        if (this.virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("BatchChartExporter-", 0)
+                    .factory());
+        }
+        return Executors.newFixedThreadPool(
+                Math.min(this.parallelism, jobCount), r -> {
+                    Thread t = new Thread(r, "BatchChartExporter");
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Draws the chart for a job and writes the encoded image to the target.
+     *
+     * @param job  the job.
+     * @param lock  the lock that is held while the chart is drawn.
+     *
+     * @return The result.
+     */
+    private static Result run(Job job, Object lock) {
+        long start = System.nanoTime();
+        long renderTime = 0L;
+        try {
+            BufferedImage image = new BufferedImage(job.width, job.height,
+                    job.format.imageType);
+            Graphics2D g2 = image.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                        RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+                synchronized (lock) {
+                    job.chart.draw(g2, new Rectangle2D.Double(0, 0,
+                            job.width, job.height));
+                }
+            } finally {
+                g2.dispose();
+            }
+            renderTime = System.nanoTime() - start;
+            long encodeStart = System.nanoTime();
+            try (OutputStream out = new BufferedOutputStream(
+                    job.target.open())) {
+                if (!ImageIO.write(image, job.format.formatName, out)) {
+                    throw new IOException("No image writer for "
+                            + job.format);
+                }
+            }
+            return new Result(job, renderTime, System.nanoTime()
+                    - encodeStart, null);
+        } catch (Exception e) {
+            if (renderTime == 0L) {
+                renderTime = System.nanoTime() - start;
+            }
+            return new Result(job, renderTime, 0L, e);
+        }
+    }
+
+}
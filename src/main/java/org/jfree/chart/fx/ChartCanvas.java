@@ -36,37 +36,90 @@
 
 package org.jfree.chart.fx;
 
+import java.awt.AlphaComposite;
+import java.awt.Composite;
 import java.awt.Graphics2D;
+import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Shape;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.event.EventType;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.util.Duration;
 import javafx.scene.text.FontSmoothingType;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.jfree.chart.ChartMouseEvent;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.AxisState;
+import org.jfree.chart.axis.TickType;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.AxisEntity;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.JFreeChartEntity;
+import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.entity.PlotEntity;
+import org.jfree.chart.entity.TitleEntity;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.OverlayChangeEvent;
 import org.jfree.chart.event.OverlayChangeListener;
+import org.jfree.chart.fx.FlightEvents.DrawEvent;
+import org.jfree.chart.fx.FlightEvents.HitTestEvent;
+import org.jfree.chart.fx.FlightEvents.MouseHandlerEvent;
+import org.jfree.chart.fx.FlightEvents.OverlayPaintEvent;
 import org.jfree.chart.fx.interaction.AnchorHandlerFX;
 import org.jfree.chart.fx.interaction.DispatchHandlerFX;
+import org.jfree.chart.fx.interaction.ChartMouseEventFX;
 import org.jfree.chart.fx.interaction.ChartMouseListenerFX;
 import org.jfree.chart.fx.interaction.TooltipHandlerFX;
 import org.jfree.chart.fx.interaction.ScrollHandlerFX;
 import org.jfree.chart.fx.interaction.PanHandlerFX;
 import org.jfree.chart.fx.interaction.MouseHandlerFX;
 import org.jfree.chart.fx.overlay.OverlayFX;
+import org.jfree.chart.fx.renderer.XYBlockGridEntity;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.DatasetRenderingOrder;
+import org.jfree.chart.plot.Marker;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.ui.Layer;
+import org.jfree.chart.ui.RectangleEdge;
 import org.jfree.chart.util.Args;
 import org.jfree.fx.FXGraphics2D;
 import org.jfree.fx.FXHints;
@@ -86,10 +139,46 @@ import org.jfree.fx.FXHints;
  * set to {@code FontSmoothingType.LCD} as this gives better results on the 
  * systems we've tested on.  You can modify this using 
  * {@code getGraphicsContext().setFontSmoothingType(yourValue)}.</p>
+ * <p>
+ * Changes to the chart, the overlays and the canvas size do not redraw the
+ * chart immediately, instead the canvas is marked as dirty and the chart is
+ * redrawn (at most) once per JavaFX pulse.  The frame rate can be limited 
+ * further via {@link #setMaxFrameRate(double)}, and {@link #flush()} can be
+ * called to bring the canvas up-to-date synchronously.  The redraws for all
+ * canvases are shared out across pulses by the {@link RenderScheduler}, and
+ * a canvas that cannot be seen (see {@link #isEffectivelyVisible()}) is not
+ * redrawn until it becomes visible.</p>
+ * <p>
+ * Optionally, the chart can be rendered on a background thread (see 
+ * {@link #setAsyncRendering(boolean)}) so that slow charts do not block the 
+ * JavaFX application thread.</p>
+ * <p>
+ * For charts with an {@link XYPlot}, static layer caching can be enabled 
+ * (see {@link #setStaticLayerCaching(boolean)}) so that changes to the 
+ * chart's data only redraw the plot's data area.</p>
+ * <p>
+ * The chart can be drawn at a lower quality while the user pans, zooms or
+ * scrolls (see {@link #setFastInteraction(boolean)}).</p>
  *
  */
 public class ChartCanvas extends Canvas implements ChartChangeListener,
         OverlayChangeListener {
+
+    /** 
+     * The time (in milliseconds) after the last scroll event at which a 
+     * burst of scroll events is considered to have ended.
+     */
+    private static final long SCROLL_SETTLE_DELAY = 250L;
+
+    /** The executor used for asynchronous rendering. */
+    private static final ExecutorService RENDER_EXECUTOR 
+            = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 
+            r -> {
+                Thread t = new Thread(r, "ChartCanvas-render");
+                t.setDaemon(true);
+                return t;
+            });
     
     /** The chart being displayed in the canvas. */
     private JFreeChart chart;
@@ -108,6 +197,12 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
     
     /** The chart rendering info from the most recent drawing of the chart. */
     private ChartRenderingInfo info;
+
+    /** 
+     * A spatial index for the entities in {@code info} (built on demand, 
+     * can be null).
+     */
+    private EntityIndex entityIndex;
     
     /** The tooltip object for the canvas (can be null). */
     private Tooltip tooltip;
@@ -121,8 +216,17 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
     /** Storage for registered chart mouse listeners. */
     private final transient List<ChartMouseListenerFX> chartMouseListeners;
 
+    /** 
+     * The chart mouse event for the mouse event currently being dispatched
+     * to the handlers (created on demand, can be null).
+     */
+    private ChartMouseEventFX chartMouseEvent;
+
     /** The current live handler (can be null). */
     private MouseHandlerFX liveHandler;
+
+    /** The handler that an event is being dispatched to (can be null). */
+    private MouseHandlerFX dispatchHandler;
     
     /** 
      * The list of available live mouse handlers (can be empty but not null). 
@@ -133,6 +237,20 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
     private List<MouseHandlerFX> auxiliaryMouseHandlers;
     
     private ObservableList<OverlayFX> overlays;
+
+    /** 
+     * A separate canvas, stacked on top of this one, that the overlays are
+     * painted on (if {@code null}, overlays are painted on this canvas). 
+     */
+    private Canvas overlayLayer;
+
+    /** The graphics target for the overlay layer (can be null). */
+    private Graphics2D overlayG2;
+
+    /** 
+     * A flag that indicates that the overlays (only) need to be repainted. 
+     */
+    private boolean overlaysDirty;
     
     /** 
      * A flag that can be used to override the plot setting for domain (x) axis
@@ -145,6 +263,132 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
      * zooming. 
      */
     private boolean rangeZoomable;
+
+    /** 
+     * A flag that indicates that the canvas content is out-of-date and a 
+     * redraw has been requested.
+     */
+    private boolean dirty;
+
+    /** 
+     * The maximum number of frames drawn per second (zero or less means no
+     * limit other than the JavaFX pulse rate).
+     */
+    private double maxFrameRate;
+
+    /** The time (from {@code System.nanoTime()}) of the most recent draw. */
+    private long lastDrawTime;
+
+    /** 
+     * A flag that controls whether the chart is rendered on a background 
+     * thread (into an image that is then drawn on the canvas).
+     */
+    private boolean asyncRendering;
+
+    /** 
+     * A counter that is incremented each time a frame is started, used to
+     * discard the results of stale asynchronous renders.
+     */
+    private volatile long renderGeneration;
+
+    /** The asynchronous render that is in progress (can be null). */
+    private Future<?> renderTask;
+
+    /** 
+     * A flag that controls whether the parts of the chart outside the data 
+     * area are retained on the canvas when only the chart's data changes.
+     */
+    private boolean staticLayerCaching;
+
+    /** 
+     * A flag that is {@code true} while all the changes since the last
+     * draw have been dataset updates.
+     */
+    private boolean dataOnlyChange;
+
+    /** 
+     * The canvas size and axis ranges for the most recent full draw (or 
+     * {@code null} if the static layer on the canvas is not reusable).
+     */
+    private double[] staticLayerKey;
+
+    /** 
+     * The ticks for the primary domain axis, for drawing the gridlines when
+     * only the data area is redrawn ({@code null} until needed).
+     */
+    private List<ValueTick> domainTicks;
+
+    /** The ticks for the primary range axis ({@code null} until needed). */
+    private List<ValueTick> rangeTicks;
+
+    /** 
+     * A flag that is set while a handler is displaying a bitmap preview on 
+     * the canvas (redraws are deferred until the preview ends).
+     */
+    private boolean previewActive;
+
+    /** 
+     * The delay (in milliseconds) after the last size change before the 
+     * chart is redrawn at the new size (zero or less to redraw immediately).
+     */
+    private long resizeDebounce;
+
+    /** The last frame, stretched to fill the canvas during a live resize. */
+    private Image resizeFrame;
+
+    /** The chart area for the {@code resizeFrame}. */
+    private Rectangle2D resizeFrameArea;
+
+    /** The timer that detects the end of a live resize. */
+    private PauseTransition resizeTimer;
+
+    /** Tracks whether the canvas can be seen. */
+    private final VisibilityTracker visibilityTracker;
+
+    /** 
+     * A flag that controls whether the chart is drawn at a lower quality 
+     * while the user is interacting with it.
+     */
+    private boolean fastInteraction;
+
+    /** 
+     * A flag that controls whether shape outlines are drawn while the user
+     * is interacting with the chart (only used for fast interaction).
+     */
+    private boolean interactionOutlines;
+
+    /** A flag that is set while scroll events are arriving. */
+    private boolean scrolling;
+
+    /** The timer that detects the end of a burst of scroll events. */
+    private PauseTransition scrollTimer;
+
+    /** 
+     * A flag that records whether the content of the canvas was drawn at 
+     * the lower quality used for interaction.
+     */
+    private boolean fastFrame;
+
+    /** 
+     * A flag that controls whether entities are collected while the user 
+     * is interacting with the chart.
+     */
+    private boolean interactionEntities;
+
+    /** 
+     * A flag that records whether the entities were skipped for the 
+     * content of the canvas.
+     */
+    private boolean entitiesSkipped;
+
+    /** The number of entities in the most recent frame with entities. */
+    private int lastEntityCount;
+
+    /** The rendering metrics. */
+    private final ChartCanvasMetrics metrics;
+
+    /** The registered MBean ({@code null} if there is none). */
+    private ChartCanvasStatistics mbean;
     
     /**
      * Creates a new canvas to display the supplied chart in JavaFX.  If
@@ -159,20 +403,20 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         }
         this.tooltip = null;
         this.tooltipEnabled = true;
-        this.chartMouseListeners = new ArrayList<>();
+        this.chartMouseListeners = new CopyOnWriteArrayList<>();
         
-        widthProperty().addListener(e -> draw());
-        heightProperty().addListener(e -> draw());
-        // change the default font smoothing for better results
-        GraphicsContext gc = getGraphicsContext2D();
-        gc.setFontSmoothingType(FontSmoothingType.LCD);
-        FXGraphics2D fxg2 = new FXGraphics2D(gc);
-        fxg2.setRenderingHint(FXHints.KEY_USE_FX_FONT_METRICS, true);
-        fxg2.setZeroStrokeWidth(0.1);
-        fxg2.setRenderingHint(
-                    RenderingHints.KEY_FRACTIONALMETRICS, 
-                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
-        this.g2 = fxg2;
+        this.maxFrameRate = 0.0;
+        this.visibilityTracker = new VisibilityTracker(this, 
+                this::handleVisibilityChange);
+        this.resizeDebounce = 0L;
+        this.fastInteraction = false;
+        this.interactionOutlines = true;
+        this.interactionEntities = true;
+        this.metrics = new ChartCanvasMetrics();
+        InvalidationListener sizeListener = e -> handleSizeChange();
+        widthProperty().addListener(sizeListener);
+        heightProperty().addListener(sizeListener);
+        this.g2 = createGraphics(getGraphicsContext2D());
         this.liveHandler = null;
         this.availableMouseHandlers = new ArrayList<>();
         
@@ -197,6 +441,27 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         setOnScroll(this::handleScroll);
     }
     
+    /**
+     * Creates the {@code Graphics2D} target that is used to draw on a 
+     * graphics context.
+     * 
+     * @param gc  the graphics context ({@code null} not permitted).
+     * 
+     * @return The graphics target.
+     */
+    private static Graphics2D createGraphics(GraphicsContext gc) {
+        // change the default font smoothing for better results
+        gc.setFontSmoothingType(FontSmoothingType.LCD);
+        FXGraphics2D fxg2 = new FXGraphics2D(gc);
+        fxg2.setRenderingHint(FXHints.KEY_USE_FX_FONT_METRICS, true);
+        fxg2.setZeroStrokeWidth(0.1);
+        fxg2.setRenderingHint(
+                    RenderingHints.KEY_FRACTIONALMETRICS, 
+                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        fxg2.setRenderingHint(FXChartHints.KEY_GRAPHICS_CONTEXT, gc);
+        return fxg2;
+    }
+
     /**
      * Returns the chart that is being displayed by this node.
      * 
@@ -219,7 +484,7 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         if (this.chart != null) {
             this.chart.addChangeListener(this);
         }
-        draw();
+        requestDraw();
     }
     
     /**
@@ -273,6 +538,100 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         return this.info;
     }
 
+    /**
+     * Returns the entity at the specified location on the canvas (or 
+     * {@code null} if there is no entity at that location).  The lookup uses
+     * a spatial index over the entities from the most recent drawing of the
+     * chart, which is built on the first lookup after each draw, so this 
+     * method is much faster than searching the entity collection directly 
+     * when there are many entities.  Mouse handlers should use this method
+     * for hit-testing.
+     * 
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * 
+     * @return The entity (possibly {@code null}).
+     */
+    public ChartEntity getEntityForPoint(double x, double y) {
+        if (this.info == null) {
+            return null;
+        }
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities == null) {
+            return null;
+        }
+        if (this.entityIndex == null 
+                || this.entityIndex.getEntities() != entities
+                || this.entityIndex.getEntityCount() 
+                != entities.getEntityCount()) {
+            long start = this.metrics.isCollecting() ? System.nanoTime() 
+                    : -1L;
+            Rectangle2D area = this.info.getChartArea();
+            if (area == null || area.isEmpty()) {
+                area = new Rectangle2D.Double(0, 0, getWidth(), getHeight());
+            }
+            this.entityIndex = new EntityIndex(entities, area);
+            if (start >= 0L) {
+                this.metrics.entityIndexBuilt(System.nanoTime() - start);
+            }
+        }
+        ChartEntity entity = this.entityIndex.getEntity(x, y);
+        if (!(entity instanceof XYBlockGridEntity)) {
+            return entity;
+        }
+        // one entity covers all the blocks in a series, so where there is
+        // no block at the point look at the entities underneath
+        for (ChartEntity candidate : this.entityIndex.getCandidates(x, y)) {
+            if (!(candidate instanceof XYBlockGridEntity)) {
+                return candidate;
+            }
+            XYItemEntity cell = ((XYBlockGridEntity) candidate)
+                    .getCellEntity(x, y);
+            if (cell != null) {
+                return cell;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the chart mouse event for a mouse event that is being 
+     * dispatched to the mouse handlers, including the entity under the 
+     * mouse pointer.  The hit-test is performed (at most) once per mouse 
+     * event and the same object is returned to every handler that asks for
+     * it, so handlers should use this method rather than looking up the 
+     * entity themselves.
+     * 
+     * @param e  the mouse event ({@code null} not permitted).
+     * 
+     * @return The chart mouse event (or {@code null} if there is no chart).
+     */
+    public ChartMouseEventFX getChartMouseEvent(MouseEvent e) {
+        if (this.chart == null) {
+            return null;
+        }
+        if (this.chartMouseEvent == null 
+                || this.chartMouseEvent.getTrigger() != e
+                || this.chartMouseEvent.getChart() != this.chart) {
+            HitTestEvent event = new HitTestEvent();
+            event.begin();
+            ChartEntity entity = getEntityForPoint(e.getX(), e.getY());
+            if (event.shouldCommit()) {
+                event.set(this);
+                event.handler = this.dispatchHandler != null 
+                        ? this.dispatchHandler.getID() : null;
+                event.x = e.getX();
+                event.y = e.getY();
+                event.entityClass = entity != null ? entity.getClass() 
+                        : null;
+                event.commit();
+            }
+            this.chartMouseEvent = new ChartMouseEventFX(this.chart, e, 
+                    entity);
+        }
+        return this.chartMouseEvent;
+    }
+
     /**
      * Returns the flag that controls whether or not tooltips are enabled.  
      * The default value is {@code true}.  The {@link TooltipHandlerFX} 
@@ -328,7 +687,7 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         Args.nullNotPermitted(overlay, "overlay");
         this.overlays.add(overlay);
         overlay.addChangeListener(this);
-        draw();
+        requestOverlayDraw();
     }
 
     /**
@@ -341,18 +700,50 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
         boolean removed = this.overlays.remove(overlay);
         if (removed) {
             overlay.removeChangeListener(this);
-            draw();
+            requestOverlayDraw();
         }
     }
 
     /**
-     * Handles a change to an overlay by repainting the chart canvas.
+     * Handles a change to an overlay by scheduling a repaint of the overlays
+     * (or the whole chart canvas if there is no overlay layer).
      *
      * @param event  the event.
      */
     @Override
     public void overlayChanged(OverlayChangeEvent event) {
-        draw();
+        requestOverlayDraw();
+    }
+
+    /**
+     * Returns the canvas that overlays are painted on, if one has been set.
+     * 
+     * @return The overlay layer (possibly {@code null}).
+     */
+    public Canvas getOverlayLayer() {
+        return this.overlayLayer;
+    }
+
+    /**
+     * Sets a separate canvas that the overlays will be painted on.  The
+     * layer should be stacked on top of this canvas, with the same location
+     * and size (the {@link ChartViewer} class takes care of this).  With an
+     * overlay layer in place, a change to an overlay only repaints the 
+     * layer, without redrawing the chart.  If {@code layer} is 
+     * {@code null}, overlays are painted directly on this canvas.
+     * 
+     * @param layer  the overlay layer ({@code null} permitted).
+     */
+    public void setOverlayLayer(Canvas layer) {
+        if (this.overlayLayer != null) {
+            this.overlayLayer.getGraphicsContext2D().clearRect(0, 0, 
+                    this.overlayLayer.getWidth(), 
+                    this.overlayLayer.getHeight());
+        }
+        this.overlayLayer = layer;
+        this.overlayG2 = layer != null 
+                ? createGraphics(layer.getGraphicsContext2D()) : null;
+        requestDraw();
     }
 
     /**
@@ -384,6 +775,42 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
     public void removeChartMouseListener(ChartMouseListenerFX listener) {
         this.chartMouseListeners.remove(listener);
     }
+
+    /**
+     * Returns {@code true} if there is at least one chart mouse listener 
+     * registered with the canvas, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     */
+    public boolean hasChartMouseListeners() {
+        return !this.chartMouseListeners.isEmpty();
+    }
+
+    /**
+     * Sends a chart mouse moved event to all registered listeners.  This 
+     * method is intended for use by the {@link DispatchHandlerFX} class, you
+     * won't normally call it directly.
+     * 
+     * @param event  the event ({@code null} not permitted).
+     */
+    public void fireChartMouseMoved(ChartMouseEventFX event) {
+        for (ChartMouseListenerFX listener : this.chartMouseListeners) {
+            listener.chartMouseMoved(event);
+        }
+    }
+
+    /**
+     * Sends a chart mouse clicked event to all registered listeners.  This 
+     * method is intended for use by the {@link DispatchHandlerFX} class, you
+     * won't normally call it directly.
+     * 
+     * @param event  the event ({@code null} not permitted).
+     */
+    public void fireChartMouseClicked(ChartMouseEventFX event) {
+        for (ChartMouseListenerFX listener : this.chartMouseListeners) {
+            listener.chartMouseClicked(event);
+        }
+    }
     
     /**
      * Returns the mouse handler with the specified ID, or {@code null} if
@@ -487,154 +914,1354 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
      */
     public void clearLiveHandler() {
         this.liveHandler = null;    
+        checkInteractionEnd();
     }
     
     /**
-     * Draws the content of the canvas and updates the 
-     * {@code renderingInfo} attribute with the latest rendering 
-     * information.
+     * Returns the maximum number of frames per second that the canvas will
+     * draw in response to redraw requests.  The default value is 
+     * {@code 0.0} which means there is no limit other than the JavaFX pulse
+     * rate.
+     * 
+     * @return The maximum frame rate.
      */
-    public final void draw() {
-        GraphicsContext ctx = getGraphicsContext2D();
-        ctx.save();
-        double width = getWidth();
-        double height = getHeight();
-        if (width > 0 && height > 0) {
-            ctx.clearRect(0, 0, width, height);
-            this.info = new ChartRenderingInfo();
-            if (this.chart != null) {
-                this.chart.draw(this.g2, new Rectangle((int) width, 
-                        (int) height), this.anchor, this.info);
-            }
-        }
-        ctx.restore();
-        for (OverlayFX overlay : this.overlays) {
-            overlay.paintOverlay(g2, this);
-        }
-        this.anchor = null;
+    public double getMaxFrameRate() {
+        return this.maxFrameRate;
     }
- 
+
     /**
-     * Returns the data area (the area inside the axes) for the plot or subplot.
-     *
-     * @param point  the selection point (for subplot selection).
-     *
-     * @return The data area.
+     * Sets the maximum number of frames per second that the canvas will draw
+     * in response to redraw requests (zero or less means no limit other than
+     * the JavaFX pulse rate).  Redraw requests that arrive between frames are
+     * coalesced.
+     * 
+     * @param rate  the maximum frame rate.
      */
-    public Rectangle2D findDataArea(Point2D point) {
-        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
-        Rectangle2D result;
-        if (plotInfo.getSubplotCount() == 0) {
-            result = plotInfo.getDataArea();
-        } else {
-            int subplotIndex = plotInfo.getSubplotIndex(point);
-            if (subplotIndex == -1) {
-                return null;
-            }
-            result = plotInfo.getSubplotInfo(subplotIndex).getDataArea();
-        }
-        return result;
+    public void setMaxFrameRate(double rate) {
+        this.maxFrameRate = rate;
     }
-    
+
     /**
-     * Return {@code true} to indicate the canvas is resizable.
+     * Returns the flag that controls whether the chart is drawn at a lower
+     * quality while the user is interacting with it.  The default value is
+     * {@code false}.
      * 
-     * @return {@code true}. 
+     * @return A boolean.
      */
-    @Override
-    public boolean isResizable() {
-        return true;
+    public boolean isFastInteraction() {
+        return this.fastInteraction;
     }
 
     /**
-     * Sets the tooltip text, with the (x, y) location being used for the
-     * anchor.  If the text is {@code null}, no tooltip will be displayed.
-     * This method is intended for calling by the {@link TooltipHandlerFX}
-     * class, you won't normally call it directly.
+     * Sets the flag that controls whether the chart is drawn at a lower 
+     * quality while the user is interacting with it (see 
+     * {@link #isInteracting()}).  The lower quality uses gray (instead of 
+     * LCD) font smoothing, no image smoothing and, optionally, no shape 
+     * outlines (see {@link #setInteractionOutlines(boolean)}).  When the 
+     * interaction ends, the chart is drawn once more at full quality.
      * 
-     * @param text  the text ({@code null} permitted).
-     * @param x  the x-coordinate of the mouse pointer.
-     * @param y  the y-coordinate of the mouse pointer.
+     * @param fast  the new flag value.
      */
-    public void setTooltip(String text, double x, double y) {
-        if (text != null) {
-            if (this.tooltip == null) {
-                this.tooltip = new Tooltip(text);
-                Tooltip.install(this, this.tooltip);
-            } else {
-                this.tooltip.setText(text);           
-                this.tooltip.setAnchorX(x);
-                this.tooltip.setAnchorY(y);
-            }                   
-        } else {
-            Tooltip.uninstall(this, this.tooltip);
-            this.tooltip = null;
-        }
+    public void setFastInteraction(boolean fast) {
+        this.fastInteraction = fast;
+        checkInteractionEnd();
     }
-    
+
     /**
-     * Handles a mouse pressed event by (1) selecting a live handler if one
-     * is not already selected, (2) passing the event to the live handler if
-     * there is one, and (3) passing the event to all enabled auxiliary 
-     * handlers.
+     * Returns the flag that controls whether shape outlines are drawn while
+     * the user is interacting with the chart.  The default value is 
+     * {@code true}.
      * 
-     * @param e  the mouse event.
+     * @return A boolean.
      */
-    private void handleMousePressed(MouseEvent e) {
-        if (this.liveHandler == null) {
-            for (MouseHandlerFX handler: this.availableMouseHandlers) {
-                if (handler.isEnabled() && handler.hasMatchingModifiers(e)) {
-                    this.liveHandler = handler;      
-                }
-            }
-        }
-        
-        if (this.liveHandler != null) {
-            this.liveHandler.handleMousePressed(this, e);
-        }
-        
-        // pass on the event to the auxiliary handlers
-        for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
-            if (handler.isEnabled()) {
-                handler.handleMousePressed(this, e);
-            }
-        }
+    public boolean isInteractionOutlines() {
+        return this.interactionOutlines;
     }
-    
+
     /**
-     * Handles a mouse moved event by passing it on to the registered handlers.
+     * Sets the flag that controls whether shape outlines are drawn while 
+     * the user is interacting with the chart.  This only applies when fast
+     * interaction is enabled (see {@link #setFastInteraction(boolean)}), 
+     * and only to renderers that recognise the 
+     * {@link FXChartHints#KEY_SHAPE_OUTLINES} hint.
      * 
-     * @param e  the mouse event.
+     * @param outlines  the new flag value.
      */
-    private void handleMouseMoved(MouseEvent e) {
-        if (this.liveHandler != null && this.liveHandler.isEnabled()) {
-            this.liveHandler.handleMouseMoved(this, e);
-        }
-        
-        for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
-            if (handler.isEnabled()) {
-                handler.handleMouseMoved(this, e);
-            }
-        }
+    public void setInteractionOutlines(boolean outlines) {
+        this.interactionOutlines = outlines;
     }
 
     /**
-     * Handles a mouse dragged event by passing it on to the registered 
+     * Returns the flag that controls whether entities are collected while 
+     * the user is interacting with the chart.  The default value is 
+     * {@code true}.
+     * 
+     * @return A boolean.
+     */
+    public boolean isInteractionEntities() {
+        return this.interactionEntities;
+    }
+
+    /**
+     * Sets the flag that controls whether entities are collected while the
+     * user is interacting with the chart (see {@link #isInteracting()}).  
+     * Collecting entities creates a shape and usually a tooltip string for
+     * every data item, so setting this flag to {@code false} can make each
+     * frame of a pan or zoom much cheaper.  The plot and data area geometry
+     * that the mouse handlers need is still recorded, but 
+     * {@link #getEntityForPoint(double, double)} returns {@code null} until
+     * the interaction ends and the chart is drawn again with entities.
+     * 
+     * @param collect  the new flag value.
+     */
+    public void setInteractionEntities(boolean collect) {
+        this.interactionEntities = collect;
+        checkInteractionEnd();
+    }
+
+    /**
+     * Returns the number of frames that have been drawn without collecting
+     * entities because the user was interacting with the chart.
+     * 
+     * @return The frame count.
+     */
+    public long getEntitySkipCount() {
+        return this.metrics.getEntitySkipCount();
+    }
+
+    /**
+     * Returns an estimate of the number of entities that have not been 
+     * created because frames were drawn without collecting entities (each 
+     * skipped frame counts the entities in the most recent frame that was
+     * drawn with entities).
+     * 
+     * @return The entity count.
+     */
+    public long getSkippedEntityCount() {
+        return this.metrics.getSkippedEntityCount();
+    }
+
+    /**
+     * Returns the rendering metrics for this canvas: the number of frames 
+     * drawn and their durations, where the drawing time is spent, the 
+     * number of entities, the redraw requests that were coalesced or held
+     * back and the time taken by each mouse handler.  The timings are only
+     * measured while the metrics are enabled or have a listener.
+     * 
+     * @return The metrics (never {@code null}).
+     */
+    public ChartCanvasMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Registers a {@link ChartCanvasMXBean} for this canvas with the 
+     * platform MBean server, using the name 
+     * {@code org.jfree.chart.fx:type=ChartCanvas,name=<name>}.  The 
+     * metrics (see {@link #getMetrics()}) are enabled while the MBean is 
+     * registered.  The MBean is unregistered when the canvas is removed from
+     * its scene or {@link #unregisterMBean()} is called, and an MBean that
+     * is already registered for this canvas is replaced.
+     * 
+     * @param name  the name that identifies the canvas ({@code null} 
+     *     permitted, in which case a name is derived from the identity of
+     *     the canvas).
+     * 
+     * @return The object name of the MBean.
+     * 
+     * @throws JMException if the MBean cannot be registered (for example 
+     *     if the name is already in use).
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        unregisterMBean();
+        if (name == null) {
+            name = Integer.toHexString(System.identityHashCode(this));
+        }
+        ObjectName objectName = new ObjectName(
+                "org.jfree.chart.fx:type=ChartCanvas,name=" 
+                + ObjectName.quote(name));
+        this.mbean = new ChartCanvasStatistics(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Unregisters the MBean for this canvas, if there is one.
+     */
+    public void unregisterMBean() {
+        if (this.mbean != null) {
+            this.mbean.unregister();
+            this.mbean = null;
+        }
+    }
+
+    /**
+     * Returns the object name of the MBean registered for this canvas.
+     * 
+     * @return The object name ({@code null} if there is no MBean).
+     */
+    public ObjectName getMBeanName() {
+        return this.mbean != null ? this.mbean.getName() : null;
+    }
+
+    /**
+     * Returns the number of overlays on this canvas.
+     * 
+     * @return The overlay count.
+     */
+    int getOverlayCount() {
+        return this.overlays.size();
+    }
+
+    /**
+     * Returns {@code true} if the chart is waiting to be redrawn.
+     * 
+     * @return A boolean.
+     */
+    boolean isDirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Returns {@code true} if the overlays are waiting to be repainted.
+     * 
+     * @return A boolean.
+     */
+    boolean isOverlaysDirty() {
+        return this.overlaysDirty;
+    }
+
+    /**
+     * Returns {@code true} if a frame is being rendered on a background 
+     * thread.
+     * 
+     * @return A boolean.
+     */
+    boolean isRenderPending() {
+        return this.renderTask != null;
+    }
+
+    /**
+     * Returns the memory held by the frame that is captured for a live 
+     * resize (zero if no resize is in progress).
+     * 
+     * @return The size (in bytes).
+     */
+    long getResizeFrameBytes() {
+        Image frame = this.resizeFrame;
+        if (frame == null) {
+            return 0L;
+        }
+        return (long) frame.getWidth() * (long) frame.getHeight() * 4L;
+    }
+
+    /**
+     * Drops the frame captured for a live resize, the entity index and the 
+     * static layer, and redraws the chart.
+     */
+    void dropCaches() {
+        this.entityIndex = null;
+        this.staticLayerKey = null;
+        if (this.resizeFrame != null) {
+            this.resizeTimer.stop();
+            this.resizeFrame = null;
+            endPreview();
+        } else {
+            requestDraw();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the user is interacting with the chart, that
+     * is a live mouse handler (for example a pan or a zoom) is active or 
+     * scroll events are arriving.
+     * 
+     * @return A boolean.
+     */
+    public boolean isInteracting() {
+        return this.liveHandler != null || this.scrolling;
+    }
+
+    /**
+     * Requests a redraw if the content of the canvas was drawn at the lower
+     * quality or without the entities used for interaction, and the 
+     * interaction has ended.
+     */
+    private void checkInteractionEnd() {
+        if (this.fastFrame && !(this.fastInteraction && isInteracting())) {
+            requestDraw();
+        } else if (this.entitiesSkipped 
+                && !(!this.interactionEntities && isInteracting())) {
+            requestDraw();
+        }
+    }
+
+    /**
+     * Creates the rendering info for a frame, without an entity collection
+     * if entities are skipped while the user is interacting with the chart.
+     * 
+     * @return The rendering info.
+     */
+    private ChartRenderingInfo createRenderingInfo() {
+        if (!this.interactionEntities && isInteracting()) {
+            this.entitiesSkipped = true;
+            this.metrics.entitiesSkipped(this.lastEntityCount);
+            return new ChartRenderingInfo(null);
+        }
+        this.entitiesSkipped = false;
+        return new ChartRenderingInfo();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the chart is rendered
+     * on a background thread.  The default value is {@code false}.
+     * 
+     * @return A boolean.
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is rendered on a
+     * background thread.  When enabled, redraw requests render the chart 
+     * into an off-screen image on a worker thread and the image is drawn on 
+     * the canvas (on the JavaFX application thread) when it is ready.  A 
+     * render that is overtaken by a newer one is cancelled and its result 
+     * discarded, and {@link #getRenderingInfo()} always returns the info for
+     * the frame that is on screen.
+     * <p>
+     * The worker thread draws a copy of the chart that is taken on the 
+     * JavaFX application thread, with copies of the datasets of an 
+     * {@link XYPlot} or a {@link org.jfree.chart.plot.CategoryPlot} that 
+     * implement {@link org.jfree.chart.util.PublicCloneable}.  Other 
+     * datasets are read by the worker thread while it draws, so changes made
+     * to them during a render may cause that render to fail, in which case 
+     * the canvas falls back to drawing the chart on the JavaFX application 
+     * thread.  Each render draws its own copy of the chart, so 
+     * {@link #draw()} and {@link #flush()} (which always draw synchronously)
+     * never wait for a render in progress, they just discard its result.  
+     * A chart with titles that cannot be copied (a 
+     * {@link org.jfree.chart.title.CompositeTitle}, or a legend with a 
+     * custom arrangement or wrapper or with sources other than the plot and
+     * its renderers) is always drawn on the JavaFX application thread.</p>
+     * <p>
+     * Note that the copy of the chart, with the copies of its datasets, is 
+     * made on the JavaFX application thread for every frame, so this mode 
+     * only helps when the datasets are much cheaper to copy than the chart 
+     * is to draw.  A 
+     * {@link org.jfree.chart.fx.data.ColumnarXYDataset} shares its series 
+     * with its copies, and a 
+     * {@link org.jfree.chart.fx.data.DecimatingXYDataset} copies only the 
+     * items that it displays (plus its source dataset), whereas most other 
+     * datasets (for example an 
+     * {@link org.jfree.data.xy.XYSeriesCollection}) copy every item.</p>
+     * 
+     * @param async  the new flag value.
+     */
+    public void setAsyncRendering(boolean async) {
+        this.asyncRendering = async;
+        cancelAsyncDraw();
+        requestDraw();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the static layer of the
+     * chart is reused when only the chart's data changes.  The default value
+     * is {@code false}.
+     * 
+     * @return A boolean.
+     */
+    public boolean isStaticLayerCaching() {
+        return this.staticLayerCaching;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the static layer of the 
+     * chart (the background, titles, legend and axes, everything outside the
+     * plot's data area) is reused when only the chart's data changes.  When
+     * enabled, the canvas content from the most recent full draw serves as 
+     * the cached bitmap for the static layer and a dataset change only 
+     * clears and redraws the data area, skipping the layout of titles, 
+     * legend and axis labels.  The cache is invalidated by any other kind 
+     * of change, and whenever the canvas size, the axis ranges or the number
+     * of series change.  This only applies to charts with a (non-combined)
+     * {@link XYPlot} that are drawn synchronously.
+     * 
+     * @param caching  the new flag value.
+     */
+    public void setStaticLayerCaching(boolean caching) {
+        this.staticLayerCaching = caching;
+        this.staticLayerKey = null;
+    }
+
+    /**
+     * Marks the canvas as dirty so that the chart will be redrawn on a 
+     * subsequent JavaFX pulse.  Any number of requests made before the next
+     * pulse result in a single redraw.  This method can be called from any
+     * thread.
+     */
+    public void requestDraw() {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::requestDraw);
+            return;
+        }
+        if (this.dirty) {
+            this.metrics.requestCoalesced();
+        }
+        this.dirty = true;
+        this.dataOnlyChange = false;
+        scheduleRedraw();
+    }
+
+    /**
+     * Marks the overlays as needing to be repainted on a subsequent JavaFX
+     * pulse.  If there is no overlay layer, the overlays are painted on this
+     * canvas so the whole chart is redrawn.  This method can be called from 
+     * any thread.
+     */
+    public void requestOverlayDraw() {
+        if (this.overlayLayer == null) {
+            requestDraw();
+            return;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::requestOverlayDraw);
+            return;
+        }
+        this.overlaysDirty = true;
+        scheduleRedraw();
+    }
+
+    /**
+     * Adds the canvas to the queue of the shared {@link RenderScheduler}, 
+     * unless the canvas cannot be seen (in which case it stays dirty until
+     * it becomes visible).
+     */
+    private void scheduleRedraw() {
+        if (this.visibilityTracker.isVisible()) {
+            RenderScheduler.getInstance().schedule(this);
+        }
+    }
+
+    /**
+     * Returns {@code true} if the canvas can be seen, that is it is in a 
+     * showing window, it and all its ancestors are visible and it is not 
+     * scrolled out of the viewport of a {@code ScrollPane}.  Redraw requests
+     * for a canvas that cannot be seen are held back until it becomes 
+     * visible.
+     * 
+     * @return A boolean.
+     */
+    public boolean isEffectivelyVisible() {
+        return this.visibilityTracker.isVisible();
+    }
+
+    /**
+     * Called when the canvas becomes visible or invisible, schedules the 
+     * redraw that was held back while the canvas could not be seen.
+     */
+    private void handleVisibilityChange() {
+        if (this.dirty || this.overlaysDirty) {
+            scheduleRedraw();
+        }
+    }
+
+    /**
+     * Draws the chart (or just the overlays) immediately if there is a 
+     * pending redraw request, otherwise does nothing.  Use this method when 
+     * you need the canvas content (and the rendering info) to be up-to-date 
+     * before the next pulse.
+     */
+    public void flush() {
+        if (this.dirty) {
+            draw();
+        } else if (this.overlaysDirty) {
+            paintOverlays();
+        }
+    }
+
+    /**
+     * Returns the priority of this canvas in the {@link RenderScheduler}
+     * queue: canvases under the mouse pointer or containing the focus owner
+     * come first, then canvases that are showing.
+     * 
+     * @return The priority.
+     */
+    int getRenderPriority() {
+        if (!this.visibilityTracker.isVisible()) {
+            return RenderScheduler.PRIORITY_HIDDEN;
+        }
+        if (isHover() || isFocused() || (getParent() instanceof ChartViewer 
+                && getParent().isFocused())) {
+            return RenderScheduler.PRIORITY_ACTIVE;
+        }
+        return RenderScheduler.PRIORITY_VISIBLE;
+    }
+
+    /**
+     * Called by the {@link RenderScheduler} on each pulse while the canvas 
+     * is queued, draws the chart if it is dirty (subject to the maximum 
+     * frame rate).
+     * 
+     * @param now  the timestamp of the current pulse (in nanoseconds).
+     * 
+     * @return A boolean that indicates whether the canvas should stay in 
+     *     the queue.
+     */
+    boolean handlePulse(long now) {
+        if (!this.visibilityTracker.isVisible()) {
+            if (this.dirty) {
+                this.metrics.frameSkipped();
+            }
+            return false;  // the canvas is scheduled when it becomes visible
+        }
+        if (this.previewActive) {
+            if (this.overlaysDirty) {
+                paintOverlays();
+            }
+            return false;  // endPreview() will schedule the canvas again
+        }
+        if (this.dirty && this.maxFrameRate > 0.0) {
+            long interval = (long) (1000000000L / this.maxFrameRate);
+            if (now - this.lastDrawTime < interval) {
+                this.metrics.frameSkipped();
+                return true;  // try again on a later pulse
+            }
+        }
+        if (this.dirty) {
+            if (this.asyncRendering) {
+                drawAsync();
+            } else {
+                draw();
+            }
+        } else if (this.overlaysDirty) {
+            paintOverlays();
+        }
+        return this.dirty || this.overlaysDirty;
+    }
+
+    /**
+     * Draws the content of the canvas and updates the 
+     * {@code renderingInfo} attribute with the latest rendering 
+     * information.  The drawing is performed immediately, in most cases you
+     * should call {@link #requestDraw()} instead.
+     */
+    public final void draw() {
+        DrawEvent event = new DrawEvent();
+        event.begin();
+        boolean dataAreaOnly = false;
+        this.dirty = false;
+        this.lastDrawTime = System.nanoTime();
+        boolean timed = this.metrics.isCollecting();
+        long chartTime = 0L;
+        cancelAsyncDraw();
+        GraphicsContext ctx = getGraphicsContext2D();
+        ctx.save();
+        // the graphics context state is restored after drawing
+        this.fastFrame = this.fastInteraction && isInteracting();
+        if (this.fastFrame) {
+            ctx.setFontSmoothingType(FontSmoothingType.GRAY);
+            ctx.setImageSmoothing(false);
+        }
+        this.g2.setRenderingHint(FXChartHints.KEY_SHAPE_OUTLINES, 
+                !this.fastFrame || this.interactionOutlines);
+        double width = getWidth();
+        double height = getHeight();
+        double[] key = this.staticLayerCaching ? staticLayerKey() : null;
+        if (width > 0 && height > 0) {
+            long chartStart = timed ? System.nanoTime() : 0L;
+            if (key != null && this.dataOnlyChange && this.anchor == null
+                    && Arrays.equals(key, this.staticLayerKey)) {
+                drawDataArea();
+                dataAreaOnly = true;
+            } else {
+                ctx.clearRect(0, 0, width, height);
+                this.domainTicks = null;
+                this.rangeTicks = null;
+                this.info = createRenderingInfo();
+                if (this.chart != null) {
+                    this.chart.draw(this.g2, new Rectangle((int) width, 
+                            (int) height), this.anchor, this.info);
+                }
+            }
+            if (timed) {
+                chartTime = System.nanoTime() - chartStart;
+            }
+        }
+        ctx.restore();
+        this.staticLayerKey = key;
+        this.dataOnlyChange = false;
+        if (!this.entitiesSkipped && this.info != null 
+                && this.info.getEntityCollection() != null) {
+            this.lastEntityCount = this.info.getEntityCollection()
+                    .getEntityCount();
+        }
+        paintOverlays();
+        this.anchor = null;
+        this.metrics.frameDrawn(timed ? System.nanoTime() - this.lastDrawTime
+                : -1L, chartTime, entityCount(this.info));
+        if (event.shouldCommit()) {
+            event.set(this);
+            event.dataAreaOnly = dataAreaOnly;
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the number of entities in the specified rendering info.
+     * 
+     * @param info  the rendering info ({@code null} permitted).
+     * 
+     * @return The entity count.
+     */
+    private static int entityCount(ChartRenderingInfo info) {
+        if (info == null || info.getEntityCollection() == null) {
+            return 0;
+        }
+        return info.getEntityCollection().getEntityCount();
+    }
+
+    /**
+     * Returns a key that identifies the static layer of the chart, or 
+     * {@code null} if the static layer cannot be reused.  The key contains 
+     * the canvas size, the series count and the ranges of all the axes.
+     * 
+     * @return The key (possibly {@code null}).
+     */
+    private double[] staticLayerKey() {
+        if (this.chart == null || this.chart.getBackgroundImage() != null
+                || !(this.chart.getPlot() instanceof XYPlot)) {
+            return null;
+        }
+        if (this.overlayLayer == null && !this.overlays.isEmpty()) {
+            return null;  // overlays are painted on the cached content
+        }
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        if (this.info != null 
+                && this.info.getPlotInfo().getSubplotCount() > 0) {
+            return null;
+        }
+        if (plot.getShadowGenerator() != null 
+                || plot.getDomainTickBandPaint() != null 
+                || plot.getRangeTickBandPaint() != null
+                || plot.isDomainCrosshairVisible() 
+                || plot.isRangeCrosshairVisible()) {
+            return null;  // not supported by drawDataArea()
+        }
+        int domainAxisCount = plot.getDomainAxisCount();
+        int rangeAxisCount = plot.getRangeAxisCount();
+        double[] key = new double[3 + 2 * (domainAxisCount + rangeAxisCount)];
+        key[0] = getWidth();
+        key[1] = getHeight();
+        key[2] = plot.getSeriesCount();
+        int k = 3;
+        for (int i = 0; i < domainAxisCount; i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            key[k++] = axis != null ? axis.getLowerBound() : Double.NaN;
+            key[k++] = axis != null ? axis.getUpperBound() : Double.NaN;
+        }
+        for (int i = 0; i < rangeAxisCount; i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            key[k++] = axis != null ? axis.getLowerBound() : Double.NaN;
+            key[k++] = axis != null ? axis.getUpperBound() : Double.NaN;
+        }
+        return key;
+    }
+
+    /**
+     * Redraws the plot inside the data area only, leaving the rest of the 
+     * canvas content (the static layer) in place.  Only the parts of the 
+     * plot that lie in the data area are drawn (the background, gridlines,
+     * markers, annotations and data items, then the outline), so the axis
+     * space, tick labels and titles are not laid out again.  The gridlines 
+     * use ticks that are calculated once per full draw.  The entities for 
+     * the chart, plot, axes, titles and legend are carried over from the 
+     * previous rendering info.
+     */
+    private void drawDataArea() {
+        XYPlot plot = (XYPlot) this.chart.getPlot();
+        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
+        Rectangle2D dataArea = plotInfo.getDataArea();
+        ChartRenderingInfo newInfo = createRenderingInfo();
+        newInfo.setChartArea(this.info.getChartArea());
+        PlotRenderingInfo newPlotInfo = newInfo.getPlotInfo();
+        newPlotInfo.setPlotArea(plotInfo.getPlotArea());
+        newPlotInfo.setDataArea(dataArea);
+        EntityCollection entities = this.info.getEntityCollection();
+        EntityCollection newEntities = newInfo.getEntityCollection();
+        if (entities != null && newEntities != null) {
+            for (int i = 0; i < entities.getEntityCount(); i++) {
+                ChartEntity entity = entities.getEntity(i);
+                if (entity instanceof JFreeChartEntity 
+                        || entity instanceof PlotEntity
+                        || entity instanceof AxisEntity
+                        || entity instanceof TitleEntity
+                        || entity instanceof LegendItemEntity) {
+                    newEntities.add(entity);
+                }
+            }
+        }
+        if (this.domainTicks == null) {
+            this.domainTicks = refreshTicks(plot.getDomainAxis(), dataArea, 
+                    plot.getDomainAxisEdge());
+            this.rangeTicks = refreshTicks(plot.getRangeAxis(), dataArea, 
+                    plot.getRangeAxisEdge());
+        }
+        Shape savedClip = this.g2.getClip();
+        Composite savedComposite = this.g2.getComposite();
+        this.g2.setClip(dataArea);
+        getGraphicsContext2D().clearRect(dataArea.getX(), dataArea.getY(), 
+                dataArea.getWidth(), dataArea.getHeight());
+        this.g2.addRenderingHints(this.chart.getRenderingHints());
+        if (this.chart.getBackgroundPaint() != null) {
+            this.g2.setPaint(this.chart.getBackgroundPaint());
+            this.g2.fill(dataArea);
+        }
+        plot.drawBackground(this.g2, dataArea);
+        this.g2.setComposite(AlphaComposite.getInstance(
+                AlphaComposite.SRC_OVER, plot.getForegroundAlpha()));
+        drawGridlines(plot, dataArea);
+
+        List<Integer> indices = new ArrayList<>(plot.getDatasets().keySet());
+        Collections.sort(indices);
+        if (plot.getDatasetRenderingOrder() == DatasetRenderingOrder.REVERSE) {
+            Collections.reverse(indices);
+        }
+        drawMarkers(plot, dataArea, indices, Layer.BACKGROUND);
+        drawRendererAnnotations(plot, dataArea, indices, Layer.BACKGROUND, 
+                newPlotInfo);
+        CrosshairState crosshairState = new CrosshairState();
+        crosshairState.setCrosshairDistance(Double.POSITIVE_INFINITY);
+        crosshairState.setAnchorX(Double.NaN);
+        crosshairState.setAnchorY(Double.NaN);
+        crosshairState.setCrosshairX(plot.getDomainCrosshairValue());
+        crosshairState.setCrosshairY(plot.getRangeCrosshairValue());
+        for (int index : indices) {
+            plot.render(this.g2, dataArea, index, newPlotInfo, 
+                    crosshairState);
+        }
+        drawRendererAnnotations(plot, dataArea, indices, Layer.FOREGROUND, 
+                newPlotInfo);
+        drawMarkers(plot, dataArea, indices, Layer.FOREGROUND);
+        plot.drawAnnotations(this.g2, dataArea, newPlotInfo);
+        this.g2.setClip(savedClip);
+        this.g2.setComposite(savedComposite);
+        plot.drawOutline(this.g2, dataArea);
+        this.info = newInfo;
+    }
+
+    /**
+     * Calculates the ticks for an axis.
+     * 
+     * @param axis  the axis ({@code null} permitted).
+     * @param dataArea  the data area.
+     * @param edge  the axis edge.
+     * 
+     * @return The ticks (never {@code null}).
+     */
+    private List<ValueTick> refreshTicks(ValueAxis axis, Rectangle2D dataArea,
+            RectangleEdge edge) {
+        List<ValueTick> result = new ArrayList<>();
+        if (axis != null && axis.isVisible()) {
+            for (Object tick : axis.refreshTicks(this.g2, new AxisState(), 
+                    dataArea, edge)) {
+                if (tick instanceof ValueTick) {
+                    result.add((ValueTick) tick);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws the gridlines and zero baselines for the primary axes of a plot,
+     * in the same way as the plot does.
+     * 
+     * @param plot  the plot.
+     * @param dataArea  the data area.
+     */
+    private void drawGridlines(XYPlot plot, Rectangle2D dataArea) {
+        XYItemRenderer r = plot.getRenderer();
+        if (r == null) {
+            return;
+        }
+        ValueAxis domainAxis = plot.getDomainAxis();
+        if (domainAxis != null) {
+            for (ValueTick tick : this.domainTicks) {
+                if (tick.getTickType() == TickType.MINOR 
+                        && plot.isDomainMinorGridlinesVisible()) {
+                    r.drawDomainLine(this.g2, plot, domainAxis, dataArea, 
+                            tick.getValue(), 
+                            plot.getDomainMinorGridlinePaint(), 
+                            plot.getDomainMinorGridlineStroke());
+                } else if (tick.getTickType() == TickType.MAJOR 
+                        && plot.isDomainGridlinesVisible()) {
+                    r.drawDomainLine(this.g2, plot, domainAxis, dataArea, 
+                            tick.getValue(), plot.getDomainGridlinePaint(), 
+                            plot.getDomainGridlineStroke());
+                }
+            }
+            if (plot.isDomainZeroBaselineVisible()) {
+                r.drawDomainLine(this.g2, plot, domainAxis, dataArea, 0.0, 
+                        plot.getDomainZeroBaselinePaint(), 
+                        plot.getDomainZeroBaselineStroke());
+            }
+        }
+        ValueAxis rangeAxis = plot.getRangeAxis();
+        if (rangeAxis != null) {
+            for (ValueTick tick : this.rangeTicks) {
+                if (tick.getValue() == 0.0 
+                        && plot.isRangeZeroBaselineVisible()) {
+                    continue;
+                }
+                if (tick.getTickType() == TickType.MINOR 
+                        && plot.isRangeMinorGridlinesVisible()) {
+                    r.drawRangeLine(this.g2, plot, rangeAxis, dataArea, 
+                            tick.getValue(), 
+                            plot.getRangeMinorGridlinePaint(), 
+                            plot.getRangeMinorGridlineStroke());
+                } else if (tick.getTickType() == TickType.MAJOR 
+                        && plot.isRangeGridlinesVisible()) {
+                    r.drawRangeLine(this.g2, plot, rangeAxis, dataArea, 
+                            tick.getValue(), plot.getRangeGridlinePaint(), 
+                            plot.getRangeGridlineStroke());
+                }
+            }
+            if (plot.isRangeZeroBaselineVisible()) {
+                r.drawRangeLine(this.g2, plot, rangeAxis, dataArea, 0.0, 
+                        plot.getRangeZeroBaselinePaint(), 
+                        plot.getRangeZeroBaselineStroke());
+            }
+        }
+    }
+
+    /**
+     * Draws the domain and range markers in one layer of a plot.
+     * 
+     * @param plot  the plot.
+     * @param dataArea  the data area.
+     * @param indices  the dataset indices.
+     * @param layer  the layer.
+     */
+    private void drawMarkers(XYPlot plot, Rectangle2D dataArea, 
+            List<Integer> indices, Layer layer) {
+        for (int index : indices) {
+            XYItemRenderer r = plot.getRenderer(index);
+            ValueAxis axis = plot.getDomainAxisForDataset(index);
+            Collection<Marker> markers = plot.getDomainMarkers(index, layer);
+            if (r != null && axis != null && markers != null) {
+                for (Marker marker : markers) {
+                    r.drawDomainMarker(this.g2, plot, axis, marker, dataArea);
+                }
+            }
+        }
+        for (int index : indices) {
+            XYItemRenderer r = plot.getRenderer(index);
+            ValueAxis axis = plot.getRangeAxisForDataset(index);
+            Collection<Marker> markers = plot.getRangeMarkers(index, layer);
+            if (r != null && axis != null && markers != null) {
+                for (Marker marker : markers) {
+                    r.drawRangeMarker(this.g2, plot, axis, marker, dataArea);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the annotations in one layer of the renderers of a plot.
+     * 
+     * @param plot  the plot.
+     * @param dataArea  the data area.
+     * @param indices  the dataset indices.
+     * @param layer  the layer.
+     * @param info  the plot rendering info.
+     */
+    private void drawRendererAnnotations(XYPlot plot, Rectangle2D dataArea,
+            List<Integer> indices, Layer layer, PlotRenderingInfo info) {
+        for (int index : indices) {
+            XYItemRenderer r = plot.getRenderer(index);
+            if (r != null) {
+                r.drawAnnotations(this.g2, dataArea, 
+                        plot.getDomainAxisForDataset(index), 
+                        plot.getRangeAxisForDataset(index), layer, info);
+            }
+        }
+    }
+
+    /**
+     * Starts drawing the chart on a background thread.  When the image is
+     * ready it is passed back to the JavaFX application thread and drawn on 
+     * the canvas (unless a newer frame has been started in the meantime).
+     */
+    private void drawAsync() {
+        final JFreeChart drawChart = this.chart;
+        final int width = (int) getWidth();
+        final int height = (int) getHeight();
+        if (drawChart == null || width <= 0 || height <= 0
+                || !ChartSnapshots.copiesTitles(drawChart)) {
+            // nothing worth doing in the background, or the copy would 
+            // share titles with the chart (which may be drawn meanwhile)
+            draw();
+            return;
+        }
+        this.dirty = false;
+        this.fastFrame = false;
+        this.entitiesSkipped = false;
+        this.lastDrawTime = System.nanoTime();
+        cancelAsyncDraw();
+        final JFreeChart copy;
+        try {
+            // this clones the datasets here, see setAsyncRendering()
+            copy = ChartSnapshots.snapshot(drawChart);
+        } catch (CloneNotSupportedException e) {
+            draw();
+            return;
+        }
+        final Map<Object, Object> datasets = ChartSnapshots.datasetMap(
+                drawChart, copy);
+        final long generation = this.renderGeneration;
+        final Point2D drawAnchor = this.anchor;
+        this.anchor = null;
+        final double scale = getOutputScale();
+        final long start = this.metrics.isCollecting() ? this.lastDrawTime 
+                : -1L;
+        this.renderTask = RENDER_EXECUTOR.submit(() -> {
+            try {
+                renderFrame(generation, drawChart, copy, datasets, width, 
+                        height, scale, drawAnchor, start);
+            } finally {
+                ChartSnapshots.release(copy);
+            }
+        });
+    }
+
+    /**
+     * Renders a frame on a worker thread and passes it to the JavaFX 
+     * application thread, unless the frame has become stale.
+     * 
+     * @param generation  the generation of the frame.
+     * @param original  the chart.
+     * @param copy  the copy of the chart to draw.
+     * @param datasets  the map from copied datasets to the originals.
+     * @param width  the width of the canvas.
+     * @param height  the height of the canvas.
+     * @param scale  the output scale.
+     * @param drawAnchor  the anchor point ({@code null} permitted).
+     * @param start  the time the frame was started (in nanoseconds), or -1
+     *     if the frame is not timed.
+     */
+    private void renderFrame(long generation, JFreeChart original, 
+            JFreeChart copy, Map<Object, Object> datasets, int width, 
+            int height, double scale, Point2D drawAnchor, long start) {
+        if (generation != this.renderGeneration) {
+            return;
+        }
+        int w = (int) Math.ceil(width * scale);
+        int h = (int) Math.ceil(height * scale);
+        ChartRenderingInfo frameInfo = new ChartRenderingInfo();
+        WritableImage frame;
+        long chartTime;
+        try {
+            BufferedImage image = new BufferedImage(w, h, 
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, 
+                    RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, 
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.scale(scale, scale);
+            DrawEvent event = new DrawEvent();
+            event.begin();
+            long chartStart = System.nanoTime();
+            copy.draw(g, new Rectangle(width, height), drawAnchor, frameInfo);
+            chartTime = System.nanoTime() - chartStart;
+            ChartSnapshots.relink(frameInfo.getEntityCollection(), datasets);
+            if (event.shouldCommit()) {
+                event.set(original, width, height, frameInfo);
+                event.async = true;
+                event.commit();
+            }
+            g.dispose();
+            if (generation != this.renderGeneration) {
+                return;
+            }
+            int[] pixels = ((DataBufferInt) image.getRaster()
+                    .getDataBuffer()).getData();
+            frame = new WritableImage(w, h);
+            frame.getPixelWriter().setPixels(0, 0, w, h, 
+                    PixelFormat.getIntArgbPreInstance(), pixels, 0, w);
+        } catch (RuntimeException e) {
+            // most likely the chart was modified during rendering, so 
+            // fall back to drawing on the FX thread
+            Platform.runLater(() -> {
+                if (generation == this.renderGeneration) {
+                    draw();
+                }
+            });
+            return;
+        }
+        long frameChartTime = chartTime;
+        Platform.runLater(() -> completeAsyncDraw(generation, frame, 
+                frameInfo, start, frameChartTime));
+    }
+
+    /**
+     * Draws a frame that was rendered in the background on the canvas, 
+     * provided that it is still the most recent frame.
+     * 
+     * @param generation  the generation of the frame.
+     * @param frame  the frame image.
+     * @param frameInfo  the rendering info for the frame.
+     * @param start  the time the frame was started (in nanoseconds), or -1
+     *     if the frame is not timed.
+     * @param chartTime  the time spent drawing the chart.
+     */
+    private void completeAsyncDraw(long generation, WritableImage frame, 
+            ChartRenderingInfo frameInfo, long start, long chartTime) {
+        if (generation != this.renderGeneration) {
+            return;  // stale
+        }
+        this.renderTask = null;
+        this.staticLayerKey = null;
+        GraphicsContext ctx = getGraphicsContext2D();
+        ctx.clearRect(0, 0, getWidth(), getHeight());
+        Rectangle2D area = frameInfo.getChartArea();
+        ctx.drawImage(frame, 0, 0, area.getWidth(), area.getHeight());
+        this.info = frameInfo;
+        paintOverlays();
+        this.metrics.frameDrawn(start >= 0L ? System.nanoTime() - start 
+                : -1L, chartTime, entityCount(frameInfo));
+    }
+
+    /**
+     * Cancels the asynchronous render in progress (if any), and ensures that
+     * its result will be discarded.
+     */
+    private void cancelAsyncDraw() {
+        this.renderGeneration++;
+        if (this.renderTask != null) {
+            this.renderTask.cancel(false);
+            this.renderTask = null;
+        }
+    }
+
+    /**
+     * Returns the output scale for the window that contains the canvas 
+     * (this is greater than {@code 1.0} on HiDPI displays).
+     * 
+     * @return The output scale.
+     */
+    private double getOutputScale() {
+        if (getScene() == null || getScene().getWindow() == null) {
+            return 1.0;
+        }
+        return getScene().getWindow().getOutputScaleX();
+    }
+
+    /**
+     * Paints the overlays, either on the overlay layer (after clearing it) 
+     * or, if there is no overlay layer, on top of the chart on this canvas.
+     */
+    private void paintOverlays() {
+        OverlayPaintEvent event = new OverlayPaintEvent();
+        event.begin();
+        long start = this.metrics.isCollecting() ? System.nanoTime() : -1L;
+        this.overlaysDirty = false;
+        Graphics2D target = this.g2;
+        if (this.overlayLayer != null) {
+            GraphicsContext ctx = this.overlayLayer.getGraphicsContext2D();
+            ctx.clearRect(0, 0, this.overlayLayer.getWidth(), 
+                    this.overlayLayer.getHeight());
+            target = this.overlayG2;
+        }
+        for (OverlayFX overlay : this.overlays) {
+            overlay.paintOverlay(target, this);
+        }
+        if (start >= 0L) {
+            this.metrics.overlaysPainted(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.set(this);
+            event.overlayCount = this.overlays.size();
+            event.commit();
+        }
+    }
+ 
+    /**
+     * Returns the delay (in milliseconds) after the last size change before
+     * the chart is redrawn at full quality.  The default value is {@code 0}
+     * which means the chart is redrawn (once per pulse) as the size changes.
+     * 
+     * @return The delay.
+     */
+    public long getResizeDebounce() {
+        return this.resizeDebounce;
+    }
+
+    /**
+     * Sets the delay (in milliseconds) after the last size change before 
+     * the chart is redrawn at full quality.  While a live resize is in 
+     * progress, the last frame is stretched to fill the canvas instead of 
+     * redrawing the chart.  A value of zero or less disables this.
+     * 
+     * @param millis  the delay.
+     */
+    public void setResizeDebounce(long millis) {
+        this.resizeDebounce = millis;
+    }
+
+    /**
+     * Prepares the canvas for a change in size by capturing the current 
+     * frame (if a live resize is not already in progress).  This method is
+     * called by the {@link ChartViewer} before it resizes the canvas, so 
+     * that the whole frame is available to stretch during a live resize.
+     * 
+     * @param width  the new width.
+     * @param height  the new height.
+     */
+    void prepareResize(double width, double height) {
+        if (width != getWidth() || height != getHeight()) {
+            captureResizeFrame();
+        }
+    }
+
+    /**
+     * Captures the current frame to be stretched during a live resize.  If 
+     * the canvas has already shrunk, only part of the frame is captured.
+     */
+    private void captureResizeFrame() {
+        if (this.resizeDebounce <= 0 || this.resizeFrame != null 
+                || this.info == null || this.previewActive) {
+            return;
+        }
+        Rectangle2D area = this.info.getChartArea();
+        if (area == null || area.isEmpty()) {
+            return;
+        }
+        this.resizeFrameArea = area;
+        this.resizeFrame = captureArea(new Rectangle2D.Double(0, 0, 
+                Math.min(area.getWidth(), getWidth()), 
+                Math.min(area.getHeight(), getHeight())));
+        if (this.resizeTimer == null) {
+            this.resizeTimer = new PauseTransition();
+            this.resizeTimer.setOnFinished(e -> {
+                this.resizeFrame = null;
+                endPreview();
+            });
+        }
+        beginPreview();
+    }
+
+    /**
+     * Handles a change in the width or height of the canvas.  Normally this
+     * schedules a redraw (so a change in both width and height results in a
+     * single draw), but during a live resize the last frame is stretched to
+     * fill the canvas until the size stops changing.
+     */
+    private void handleSizeChange() {
+        if (this.resizeDebounce <= 0) {
+            requestDraw();
+            return;
+        }
+        captureResizeFrame();
+        if (this.resizeFrame == null) {
+            requestDraw();
+            return;
+        }
+        double sx = getWidth() / this.resizeFrameArea.getWidth();
+        double sy = getHeight() / this.resizeFrameArea.getHeight();
+        GraphicsContext ctx = getGraphicsContext2D();
+        ctx.clearRect(0, 0, getWidth(), getHeight());
+        ctx.drawImage(this.resizeFrame, 0, 0, 
+                this.resizeFrame.getWidth() / getOutputScale() * sx, 
+                this.resizeFrame.getHeight() / getOutputScale() * sy);
+        this.resizeTimer.setDuration(Duration.millis(this.resizeDebounce));
+        this.resizeTimer.playFromStart();
+    }
+
+    /**
+     * Returns {@code true} if a bitmap preview is currently displayed on the
+     * canvas, and {@code false} otherwise.
+     * 
+     * @return A boolean.
+     */
+    public boolean isPreviewActive() {
+        return this.previewActive;
+    }
+
+    /**
+     * Captures the current canvas content within the specified area as an 
+     * image (at the output scale of the window, so the image may be larger 
+     * than the area on HiDPI displays).  This method is intended for use by
+     * mouse handlers that display a bitmap preview while the user 
+     * interacts with the chart.
+     * 
+     * @param area  the area ({@code null} not permitted).
+     * 
+     * @return The image.
+     */
+    public WritableImage captureArea(Rectangle2D area) {
+        Args.nullNotPermitted(area, "area");
+        double scale = getOutputScale();
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        params.setViewport(new javafx.geometry.Rectangle2D(
+                area.getX() * scale, area.getY() * scale, 
+                area.getWidth() * scale, area.getHeight() * scale));
+        return snapshot(params, null);
+    }
+
+    /**
+     * Starts a bitmap preview.  Until {@link #endPreview()} is called, 
+     * redraw requests are deferred so that they do not overwrite the 
+     * preview.  This method is intended for use by mouse handlers, you won't
+     * normally call it directly.
+     */
+    public void beginPreview() {
+        this.previewActive = true;
+    }
+
+    /**
+     * Draws a preview image within the specified area of the canvas (the
+     * area is first filled with the plot background color, so any part not 
+     * covered by the image is shown as empty plot background).  This method
+     * is intended for use by mouse handlers, you won't normally call it 
+     * directly.
+     * 
+     * @param image  the image ({@code null} not permitted).
+     * @param area  the area to update ({@code null} not permitted).
+     * @param x  the x-coordinate for the image.
+     * @param y  the y-coordinate for the image.
+     * @param w  the width for the image.
+     * @param h  the height for the image.
+     */
+    public void drawPreview(Image image, Rectangle2D area, double x, double y, 
+            double w, double h) {
+        Args.nullNotPermitted(image, "image");
+        Args.nullNotPermitted(area, "area");
+        GraphicsContext ctx = getGraphicsContext2D();
+        ctx.save();
+        ctx.beginPath();
+        ctx.rect(area.getX(), area.getY(), area.getWidth(), area.getHeight());
+        ctx.clip();
+        ctx.clearRect(area.getX(), area.getY(), area.getWidth(), 
+                area.getHeight());
+        Paint bg = this.chart != null 
+                ? this.chart.getPlot().getBackgroundPaint() : null;
+        if (bg != null) {
+            this.g2.setPaint(bg);
+            this.g2.fill(area);
+        }
+        ctx.drawImage(image, x, y, w, h);
+        ctx.restore();
+    }
+
+    /**
+     * Ends a bitmap preview and redraws the chart.  This method is intended
+     * for use by mouse handlers, you won't normally call it directly.
+     */
+    public void endPreview() {
+        this.previewActive = false;
+        this.staticLayerKey = null;
+        requestDraw();
+    }
+
+    /**
+     * Returns the data area (the area inside the axes) for the plot or subplot.
+     *
+     * @param point  the selection point (for subplot selection).
+     *
+     * @return The data area.
+     */
+    public Rectangle2D findDataArea(Point2D point) {
+        PlotRenderingInfo plotInfo = this.info.getPlotInfo();
+        Rectangle2D result;
+        if (plotInfo.getSubplotCount() == 0) {
+            result = plotInfo.getDataArea();
+        } else {
+            int subplotIndex = plotInfo.getSubplotIndex(point);
+            if (subplotIndex == -1) {
+                return null;
+            }
+            result = plotInfo.getSubplotInfo(subplotIndex).getDataArea();
+        }
+        return result;
+    }
+    
+    /**
+     * Return {@code true} to indicate the canvas is resizable.
+     * 
+     * @return {@code true}. 
+     */
+    @Override
+    public boolean isResizable() {
+        return true;
+    }
+
+    /**
+     * Sets the tooltip text, with the (x, y) location being used for the
+     * anchor.  If the text is {@code null}, no tooltip will be displayed.
+     * This method is intended for calling by the {@link TooltipHandlerFX}
+     * class, you won't normally call it directly.
+     * 
+     * @param text  the text ({@code null} permitted).
+     * @param x  the x-coordinate of the mouse pointer.
+     * @param y  the y-coordinate of the mouse pointer.
+     */
+    public void setTooltip(String text, double x, double y) {
+        if (text != null) {
+            if (this.tooltip == null) {
+                this.tooltip = new Tooltip(text);
+                Tooltip.install(this, this.tooltip);
+            } else {
+                this.tooltip.setText(text);           
+                this.tooltip.setAnchorX(x);
+                this.tooltip.setAnchorY(y);
+            }                   
+        } else {
+            Tooltip.uninstall(this, this.tooltip);
+            this.tooltip = null;
+        }
+    }
+    
+    /**
+     * Handles a mouse pressed event by (1) selecting a live handler if one
+     * is not already selected, (2) passing the event to the live handler if
+     * there is one, and (3) passing the event to all enabled auxiliary 
      * handlers.
      * 
      * @param e  the mouse event.
      */
-    private void handleMouseDragged(MouseEvent e) {
-        if (this.liveHandler != null && this.liveHandler.isEnabled()) {
-            this.liveHandler.handleMouseDragged(this, e);
-        }
-        
-        // pass on the event to the auxiliary handlers
-        for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
-            if (handler.isEnabled()) {
-                handler.handleMouseDragged(this, e);
+    private void handleMousePressed(MouseEvent e) {
+        if (this.liveHandler == null) {
+            for (MouseHandlerFX handler: this.availableMouseHandlers) {
+                if (handler.isEnabled() && handler.hasMatchingModifiers(e)) {
+                    this.liveHandler = handler;      
+                }
             }
         }
+        
+        dispatchToHandlers(e);
+    }
+    
+    /**
+     * Handles a mouse moved event by passing it on to the registered handlers.
+     * 
+     * @param e  the mouse event.
+     */
+    private void handleMouseMoved(MouseEvent e) {
+        dispatchToHandlers(e);
+    }
+
+    /**
+     * Handles a mouse dragged event by passing it on to the registered 
+     * handlers.
+     * 
+     * @param e  the mouse event.
+     */
+    private void handleMouseDragged(MouseEvent e) {
+        dispatchToHandlers(e);
     }
 
     /**
@@ -644,16 +2271,7 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
      * @param e  the mouse event.
      */
     private void handleMouseReleased(MouseEvent e) {
-        if (this.liveHandler != null && this.liveHandler.isEnabled()) {
-            this.liveHandler.handleMouseReleased(this, e);
-        }
-        
-        // pass on the event to the auxiliary handlers
-        for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
-            if (handler.isEnabled()) {
-                handler.handleMouseReleased(this, e);
-            }
-        }
+        dispatchToHandlers(e);
     }
     
     /**
@@ -663,15 +2281,31 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
      * @param e  the mouse event.
      */
     private void handleMouseClicked(MouseEvent e) {
-        if (this.liveHandler != null && this.liveHandler.isEnabled()) {
-            this.liveHandler.handleMouseClicked(this, e);
-        }
+        dispatchToHandlers(e);
+    }
 
-        // pass on the event to the auxiliary handlers
-        for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
-            if (handler.isEnabled()) {
-                handler.handleMouseClicked(this, e);
+    /**
+     * Passes a mouse event to the live handler (if there is one) and the 
+     * enabled auxiliary handlers.  The chart mouse event that is shared by
+     * the handlers is discarded afterwards, so that it does not keep the 
+     * mouse event and the entity alive.
+     * 
+     * @param e  the mouse event.
+     */
+    private void dispatchToHandlers(MouseEvent e) {
+        try {
+            if (this.liveHandler != null && this.liveHandler.isEnabled()) {
+                dispatchMouseEvent(this.liveHandler, e);
+            }
+
+            // pass on the event to the auxiliary handlers
+            for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
+                if (handler.isEnabled()) {
+                    dispatchMouseEvent(handler, e);
+                }
             }
+        } finally {
+            this.chartMouseEvent = null;
         }
     }
 
@@ -681,25 +2315,111 @@ public class ChartCanvas extends Canvas implements ChartChangeListener,
      * @param e  the scroll event.
      */
     protected void handleScroll(ScrollEvent e) {
+        this.scrolling = true;
+        if (this.scrollTimer == null) {
+            this.scrollTimer = new PauseTransition(
+                    Duration.millis(SCROLL_SETTLE_DELAY));
+            this.scrollTimer.setOnFinished(event -> {
+                this.scrolling = false;
+                checkInteractionEnd();
+            });
+        }
+        this.scrollTimer.playFromStart();
         if (this.liveHandler != null && this.liveHandler.isEnabled()) {
-            this.liveHandler.handleScroll(this, e);
+            dispatchScrollEvent(this.liveHandler, e);
         }
         for (MouseHandlerFX handler: this.auxiliaryMouseHandlers) {
             if (handler.isEnabled()) {
-                handler.handleScroll(this, e);
+                dispatchScrollEvent(handler, e);
             }
         }
     }
     
+    /**
+     * Passes a mouse event to a handler, recording the time taken in the 
+     * metrics if they are collecting.
+     * 
+     * @param handler  the handler.
+     * @param e  the mouse event.
+     */
+    private void dispatchMouseEvent(MouseHandlerFX handler, MouseEvent e) {
+        MouseHandlerEvent event = new MouseHandlerEvent();
+        event.begin();
+        long start = this.metrics.isCollecting() ? System.nanoTime() : -1L;
+        this.dispatchHandler = handler;
+        EventType<? extends MouseEvent> type = e.getEventType();
+        if (type == MouseEvent.MOUSE_PRESSED) {
+            handler.handleMousePressed(this, e);
+        } else if (type == MouseEvent.MOUSE_MOVED) {
+            handler.handleMouseMoved(this, e);
+        } else if (type == MouseEvent.MOUSE_DRAGGED) {
+            handler.handleMouseDragged(this, e);
+        } else if (type == MouseEvent.MOUSE_RELEASED) {
+            handler.handleMouseReleased(this, e);
+        } else if (type == MouseEvent.MOUSE_CLICKED) {
+            handler.handleMouseClicked(this, e);
+        }
+        this.dispatchHandler = null;
+        if (start >= 0L) {
+            this.metrics.handlerDispatched(handler.getID(), 
+                    System.nanoTime() - start);
+        }
+        commitHandlerEvent(event, handler, type);
+    }
+
+    /**
+     * Passes a scroll event to a handler, recording the time taken in the 
+     * metrics if they are collecting.
+     * 
+     * @param handler  the handler.
+     * @param e  the scroll event.
+     */
+    private void dispatchScrollEvent(MouseHandlerFX handler, ScrollEvent e) {
+        MouseHandlerEvent event = new MouseHandlerEvent();
+        event.begin();
+        long start = this.metrics.isCollecting() ? System.nanoTime() : -1L;
+        handler.handleScroll(this, e);
+        if (start >= 0L) {
+            this.metrics.handlerDispatched(handler.getID(), 
+                    System.nanoTime() - start);
+        }
+        commitHandlerEvent(event, handler, e.getEventType());
+    }
+
+    /**
+     * Commits a flight recorder event for a mouse handler callback, if the
+     * event is enabled.
+     * 
+     * @param event  the event.
+     * @param handler  the handler.
+     * @param type  the type of the mouse or scroll event.
+     */
+    private void commitHandlerEvent(MouseHandlerEvent event, 
+            MouseHandlerFX handler, EventType<?> type) {
+        if (event.shouldCommit()) {
+            event.set(this);
+            event.handler = handler.getID();
+            event.eventType = type.getName();
+            event.commit();
+        }
+    }
+
     /**
      * Receives a notification from the chart that it has been changed and
-     * responds by redrawing the chart entirely.
+     * responds by scheduling a redraw of the chart.
      * 
      * @param event  event information. 
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        draw();
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> chartChanged(event));
+            return;
+        }
+        boolean dataOnly = (!this.dirty || this.dataOnlyChange) 
+                && event.getType() == ChartChangeEventType.DATASET_UPDATED;
+        requestDraw();
+        this.dataOnlyChange = dataOnly;
     }
 
 }
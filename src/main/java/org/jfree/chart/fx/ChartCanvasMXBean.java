@@ -0,0 +1,185 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * ChartCanvasMXBean.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+/**
+ * The management interface for a {@link ChartCanvas}, registered with the
+ * platform MBean server by {@link ChartCanvas#registerMBean(String)}.  The
+ * times are in milliseconds.  The attributes are read without
+ * synchronizing with the JavaFX application thread (so they can still be
+ * read while that thread is busy) and the operations are run on that
+ * thread later.
+ */
+public interface ChartCanvasMXBean {
+
+    /**
+     * Returns the number of frames that have been drawn.
+     *
+     * @return The render count.
+     */
+    long getRenderCount();
+
+    /**
+     * Returns the duration of the most recent frame.
+     *
+     * @return The duration (in milliseconds).
+     */
+    double getLastDrawTime();
+
+    /**
+     * Returns the mean duration of the frames.
+     *
+     * @return The duration (in milliseconds).
+     */
+    double getMeanDrawTime();
+
+    /**
+     * Returns the 95th percentile of the durations of the recent frames.
+     *
+     * @return The duration (in milliseconds).
+     */
+    double getDrawTimeP95();
+
+    /**
+     * Returns the 99th percentile of the durations of the recent frames.
+     *
+     * @return The duration (in milliseconds).
+     */
+    double getDrawTimeP99();
+
+    /**
+     * Returns the total time spent drawing the chart.
+     *
+     * @return The time (in milliseconds).
+     */
+    double getChartDrawTime();
+
+    /**
+     * Returns the total time spent painting overlays.
+     *
+     * @return The time (in milliseconds).
+     */
+    double getOverlayPaintTime();
+
+    /**
+     * Returns the total time spent building entity indices.
+     *
+     * @return The time (in milliseconds).
+     */
+    double getEntityIndexTime();
+
+    /**
+     * Returns the number of redraw requests that were merged into a redraw
+     * that was already pending.
+     *
+     * @return The request count.
+     */
+    long getCoalescedRequestCount();
+
+    /**
+     * Returns the number of pulses on which a pending redraw was held back.
+     *
+     * @return The frame count.
+     */
+    long getSkippedFrameCount();
+
+    /**
+     * Returns the number of entities in the most recent frame.
+     *
+     * @return The entity count.
+     */
+    int getEntityCount();
+
+    /**
+     * Returns the number of overlays on the canvas.
+     *
+     * @return The overlay count.
+     */
+    int getOverlayCount();
+
+    /**
+     * Returns {@code true} if the chart is waiting to be redrawn.
+     *
+     * @return A boolean.
+     */
+    boolean isDirty();
+
+    /**
+     * Returns {@code true} if the overlays are waiting to be repainted.
+     *
+     * @return A boolean.
+     */
+    boolean isOverlaysDirty();
+
+    /**
+     * Returns {@code true} if a frame is being rendered on a background
+     * thread.
+     *
+     * @return A boolean.
+     */
+    boolean isRenderPending();
+
+    /**
+     * Returns {@code true} if the canvas can be seen.
+     *
+     * @return A boolean.
+     */
+    boolean isVisible();
+
+    /**
+     * Returns the memory held by the frame that the canvas keeps while it is
+     * being resized (zero when no resize is in progress).  Images held by
+     * the mouse handlers (during a pan or a zoom preview) and by the
+     * renderers are not included.
+     *
+     * @return The size (in bytes).
+     */
+    long getResizeFrameBytes();
+
+    /**
+     * Requests a redraw of the chart.
+     */
+    void requestDraw();
+
+    /**
+     * Drops the frame kept for a resize, the entity index and the static
+     * layer of the canvas, and redraws the chart.  Images held by the mouse
+     * handlers and by the renderers are not dropped.
+     */
+    void dropCaches();
+
+}
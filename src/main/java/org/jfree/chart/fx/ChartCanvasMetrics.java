@@ -0,0 +1,465 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartCanvasMetrics.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jfree.chart.util.Args;
+
+/**
+ * Rendering metrics for a {@link ChartCanvas} (see
+ * {@link ChartCanvas#getMetrics()}).  The counts of frames and requests are
+ * always maintained.  The timings (draw durations, the time spent drawing
+ * the chart, painting overlays and building the entity index, and the time
+ * taken by each mouse handler) are only measured while the metrics are
+ * collecting, that is while they are enabled (see
+ * {@link #setEnabled(boolean)}) or there is at least one registered
+ * listener, so they cost almost nothing otherwise.  All times are in
+ * nanoseconds.
+ * <p>
+ * The metrics are updated on the JavaFX application thread, and can be
+ * read from any thread.</p>
+ */
+public class ChartCanvasMetrics {
+
+    /** The number of recent draw durations kept for percentiles. */
+    private static final int HISTORY_SIZE = 1024;
+
+    /** The listeners. */
+    private final List<ChartCanvasMetricsListener> listeners;
+
+    /** Whether the timings are measured without any listeners. */
+    private volatile boolean enabled;
+
+    /** The number of frames drawn. */
+    private volatile long renderCount;
+
+    /** The number of frames with a measured draw duration. */
+    private volatile long timedRenderCount;
+
+    /** The duration of the most recent timed frame. */
+    private volatile long lastDrawTime;
+
+    /** The total duration of the timed frames. */
+    private volatile long totalDrawTime;
+
+    /** The total time spent in {@code JFreeChart.draw()}. */
+    private volatile long chartDrawTime;
+
+    /** The total time spent painting overlays. */
+    private volatile long overlayPaintTime;
+
+    /** The total time spent building entity indices. */
+    private volatile long entityIndexTime;
+
+    /** The number of entities in the most recent frame. */
+    private volatile int entityCount;
+
+    /** The number of redraw requests merged into a pending redraw. */
+    private volatile long coalescedRequestCount;
+
+    /** The number of pulses on which a pending redraw was held back. */
+    private volatile long skippedFrameCount;
+
+    /** The number of frames drawn without collecting entities. */
+    private volatile long entitySkipCount;
+
+    /** The estimated number of entities not created. */
+    private volatile long skippedEntityCount;
+
+    /** The most recent draw durations (a ring buffer). */
+    private final long[] history;
+
+    /** The number of values in the history. */
+    private int historySize;
+
+    /** The index for the next value in the history. */
+    private int historyIndex;
+
+    /**
+     * The dispatch statistics for each mouse handler (count, total time,
+     * maximum time), by handler ID.
+     */
+    private final Map<String, long[]> handlerStats;
+
+    /**
+     * Creates a new instance.
+     */
+    ChartCanvasMetrics() {
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.history = new long[HISTORY_SIZE];
+        this.handlerStats = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the flag that controls whether the timings are measured when
+     * there are no listeners.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the timings are measured when
+     * there are no listeners (set this to {@code true} to read the metrics
+     * by polling).
+     *
+     * @param enabled  the new flag value.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns {@code true} if the timings are currently being measured.
+     *
+     * @return A boolean.
+     */
+    public boolean isCollecting() {
+        return this.enabled || !this.listeners.isEmpty();
+    }
+
+    /**
+     * Registers a listener that is notified after each frame.
+     *
+     * @param listener  the listener ({@code null} not permitted).
+     */
+    public void addListener(ChartCanvasMetricsListener listener) {
+        Args.nullNotPermitted(listener, "listener");
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener  the listener.
+     */
+    public void removeListener(ChartCanvasMetricsListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of frames that have been drawn.
+     *
+     * @return The render count.
+     */
+    public long getRenderCount() {
+        return this.renderCount;
+    }
+
+    /**
+     * Returns the duration of the most recent frame that was timed.
+     *
+     * @return The duration (in nanoseconds).
+     */
+    public long getLastDrawTime() {
+        return this.lastDrawTime;
+    }
+
+    /**
+     * Returns the mean duration of the frames that were timed.
+     *
+     * @return The duration (in nanoseconds).
+     */
+    public double getMeanDrawTime() {
+        long n = this.timedRenderCount;
+        return n > 0 ? this.totalDrawTime / (double) n : 0.0;
+    }
+
+    /**
+     * Returns a percentile of the durations of the most recent timed
+     * frames (up to 1024 frames).
+     *
+     * @param percentile  the percentile (in the range 0 to 100).
+     *
+     * @return The duration (in nanoseconds, zero if no frames were timed).
+     */
+    public synchronized long getDrawTimePercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException(
+                    "Require 'percentile' to be in the range 0 to 100.");
+        }
+        if (this.historySize == 0) {
+            return 0L;
+        }
+        long[] sorted = Arrays.copyOf(this.history, this.historySize);
+        Arrays.sort(sorted);
+        int i = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(i, sorted.length - 1))];
+    }
+
+    /**
+     * Returns the total time spent drawing the chart (in
+     * {@code JFreeChart.draw()} or, when only the data area is redrawn,
+     * in drawing the data area) for the timed frames.
+     *
+     * @return The time (in nanoseconds).
+     */
+    public long getChartDrawTime() {
+        return this.chartDrawTime;
+    }
+
+    /**
+     * Returns the total time spent painting overlays.
+     *
+     * @return The time (in nanoseconds).
+     */
+    public long getOverlayPaintTime() {
+        return this.overlayPaintTime;
+    }
+
+    /**
+     * Returns the total time spent building the entity index that is used
+     * for hit-testing.
+     *
+     * @return The time (in nanoseconds).
+     */
+    public long getEntityIndexTime() {
+        return this.entityIndexTime;
+    }
+
+    /**
+     * Returns the number of entities in the most recent frame (zero if the
+     * entities were not collected).
+     *
+     * @return The entity count.
+     */
+    public int getEntityCount() {
+        return this.entityCount;
+    }
+
+    /**
+     * Returns the number of redraw requests that were merged into a redraw
+     * that was already pending.
+     *
+     * @return The request count.
+     */
+    public long getCoalescedRequestCount() {
+        return this.coalescedRequestCount;
+    }
+
+    /**
+     * Returns the number of pulses on which a pending redraw was held back,
+     * because of the maximum frame rate or because the canvas could not be
+     * seen.
+     *
+     * @return The frame count.
+     */
+    public long getSkippedFrameCount() {
+        return this.skippedFrameCount;
+    }
+
+    /**
+     * Returns the number of frames that were drawn without collecting
+     * entities because the user was interacting with the chart (see
+     * {@link ChartCanvas#setInteractionEntities(boolean)}).
+     *
+     * @return The frame count.
+     */
+    public long getEntitySkipCount() {
+        return this.entitySkipCount;
+    }
+
+    /**
+     * Returns an estimate of the number of entities that were not created
+     * because frames were drawn without collecting entities (each skipped
+     * frame counts the entities in the most recent frame that had them).
+     *
+     * @return The entity count.
+     */
+    public long getSkippedEntityCount() {
+        return this.skippedEntityCount;
+    }
+
+    /**
+     * Returns the IDs of the mouse handlers that have been timed.
+     *
+     * @return The handler IDs (never {@code null}).
+     */
+    public synchronized List<String> getHandlerIDs() {
+        return new ArrayList<>(this.handlerStats.keySet());
+    }
+
+    /**
+     * Returns the number of timed events that were dispatched to a mouse
+     * handler.
+     *
+     * @param id  the handler ID.
+     *
+     * @return The event count.
+     */
+    public synchronized long getHandlerDispatchCount(String id) {
+        long[] stats = this.handlerStats.get(id);
+        return stats != null ? stats[0] : 0L;
+    }
+
+    /**
+     * Returns the mean time taken by a mouse handler to handle an event.
+     *
+     * @param id  the handler ID.
+     *
+     * @return The time (in nanoseconds).
+     */
+    public synchronized double getHandlerMeanLatency(String id) {
+        long[] stats = this.handlerStats.get(id);
+        return stats != null && stats[0] > 0 ? stats[1] / (double) stats[0]
+                : 0.0;
+    }
+
+    /**
+     * Returns the longest time taken by a mouse handler to handle an event.
+     *
+     * @param id  the handler ID.
+     *
+     * @return The time (in nanoseconds).
+     */
+    public synchronized long getHandlerMaxLatency(String id) {
+        long[] stats = this.handlerStats.get(id);
+        return stats != null ? stats[2] : 0L;
+    }
+
+    /**
+     * Resets all the metrics to zero.
+     */
+    public synchronized void reset() {
+        this.renderCount = 0L;
+        this.timedRenderCount = 0L;
+        this.lastDrawTime = 0L;
+        this.totalDrawTime = 0L;
+        this.chartDrawTime = 0L;
+        this.overlayPaintTime = 0L;
+        this.entityIndexTime = 0L;
+        this.coalescedRequestCount = 0L;
+        this.skippedFrameCount = 0L;
+        this.entitySkipCount = 0L;
+        this.skippedEntityCount = 0L;
+        this.historySize = 0;
+        this.historyIndex = 0;
+        this.handlerStats.clear();
+    }
+
+    /**
+     * Records a frame and notifies the listeners.
+     *
+     * @param drawTime  the duration of the frame (in nanoseconds, or -1 if
+     *     the frame was not timed).
+     * @param chartTime  the time spent drawing the chart.
+     * @param entities  the number of entities in the frame.
+     */
+    void frameDrawn(long drawTime, long chartTime, int entities) {
+        this.renderCount++;
+        this.entityCount = entities;
+        if (drawTime >= 0L) {
+            synchronized (this) {
+                this.timedRenderCount++;
+                this.lastDrawTime = drawTime;
+                this.totalDrawTime += drawTime;
+                this.chartDrawTime += chartTime;
+                this.history[this.historyIndex] = drawTime;
+                this.historyIndex = (this.historyIndex + 1) % HISTORY_SIZE;
+                this.historySize = Math.min(this.historySize + 1,
+                        HISTORY_SIZE);
+            }
+        }
+        for (ChartCanvasMetricsListener listener : this.listeners) {
+            listener.frameDrawn(this);
+        }
+    }
+
+    /**
+     * Records the time spent painting overlays.
+     *
+     * @param time  the time (in nanoseconds).
+     */
+    synchronized void overlaysPainted(long time) {
+        this.overlayPaintTime += time;
+    }
+
+    /**
+     * Records the time spent building an entity index.
+     *
+     * @param time  the time (in nanoseconds).
+     */
+    synchronized void entityIndexBuilt(long time) {
+        this.entityIndexTime += time;
+    }
+
+    /**
+     * Records a redraw request that was merged into a pending redraw.
+     */
+    void requestCoalesced() {
+        this.coalescedRequestCount++;
+    }
+
+    /**
+     * Records a pulse on which a pending redraw was held back.
+     */
+    void frameSkipped() {
+        this.skippedFrameCount++;
+    }
+
+    /**
+     * Records a frame that was drawn without collecting entities.
+     *
+     * @param estimate  the estimated number of entities not created.
+     */
+    void entitiesSkipped(long estimate) {
+        this.entitySkipCount++;
+        this.skippedEntityCount += estimate;
+    }
+
+    /**
+     * Records the time taken by a mouse handler to handle an event.
+     *
+     * @param id  the handler ID.
+     * @param time  the time (in nanoseconds).
+     */
+    synchronized void handlerDispatched(String id, long time) {
+        long[] stats = this.handlerStats.computeIfAbsent(id,
+                k -> new long[3]);
+        stats[0]++;
+        stats[1] += time;
+        stats[2] = Math.max(stats[2], time);
+    }
+
+}
@@ -0,0 +1,55 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * ChartCanvasMetricsListener.java
+ * -------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.util.EventListener;
+
+/**
+ * A listener that is notified each time a {@link ChartCanvas} has drawn a
+ * frame and updated its {@link ChartCanvasMetrics}.
+ */
+public interface ChartCanvasMetricsListener extends EventListener {
+
+    /**
+     * Receives notification that a frame has been drawn.  This method is
+     * called on the JavaFX application thread, and should return quickly.
+     *
+     * @param metrics  the metrics (never {@code null}).
+     */
+    void frameDrawn(ChartCanvasMetrics metrics);
+
+}
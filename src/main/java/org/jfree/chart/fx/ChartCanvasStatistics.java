@@ -0,0 +1,216 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ChartCanvasStatistics.java
+ * --------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.lang.management.ManagementFactory;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The {@link ChartCanvasMXBean} for a {@link ChartCanvas}.  While it is
+ * registered the canvas metrics are enabled, and it is unregistered
+ * automatically when the canvas is removed from its scene.
+ */
+final class ChartCanvasStatistics implements ChartCanvasMXBean {
+
+    /** The number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    /** The canvas. */
+    private final ChartCanvas canvas;
+
+    /** The name the MBean is registered with. */
+    private final ObjectName name;
+
+    /** The metrics flag before the MBean was registered. */
+    private final boolean metricsEnabled;
+
+    /** The listener that unregisters the MBean when the scene is cleared. */
+    private final ChangeListener<Scene> sceneListener;
+
+    /**
+     * Creates a new instance and registers it with the platform MBean
+     * server.
+     *
+     * @param canvas  the canvas ({@code null} not permitted).
+     * @param name  the name ({@code null} not permitted).
+     *
+     * @throws JMException if the MBean cannot be registered.
+     */
+    ChartCanvasStatistics(ChartCanvas canvas, ObjectName name)
+            throws JMException {
+        this.canvas = canvas;
+        this.name = name;
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        ChartCanvasMetrics metrics = canvas.getMetrics();
+        this.metricsEnabled = metrics.isEnabled();
+        metrics.setEnabled(true);
+        this.sceneListener = (obs, oldScene, newScene) -> {
+            if (newScene == null) {
+                canvas.unregisterMBean();
+            }
+        };
+        canvas.sceneProperty().addListener(this.sceneListener);
+    }
+
+    /**
+     * Returns the name the MBean is registered with.
+     *
+     * @return The name.
+     */
+    ObjectName getName() {
+        return this.name;
+    }
+
+    /**
+     * Unregisters the MBean and restores the metrics flag.
+     */
+    void unregister() {
+        this.canvas.sceneProperty().removeListener(this.sceneListener);
+        this.canvas.getMetrics().setEnabled(this.metricsEnabled);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(this.name);
+        } catch (JMException e) {
+            // already unregistered by someone else, nothing to do
+        }
+    }
+
+    @Override
+    public long getRenderCount() {
+        return this.canvas.getMetrics().getRenderCount();
+    }
+
+    @Override
+    public double getLastDrawTime() {
+        return this.canvas.getMetrics().getLastDrawTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanDrawTime() {
+        return this.canvas.getMetrics().getMeanDrawTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getDrawTimeP95() {
+        return this.canvas.getMetrics().getDrawTimePercentile(95.0)
+                / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getDrawTimeP99() {
+        return this.canvas.getMetrics().getDrawTimePercentile(99.0)
+                / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getChartDrawTime() {
+        return this.canvas.getMetrics().getChartDrawTime() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getOverlayPaintTime() {
+        return this.canvas.getMetrics().getOverlayPaintTime()
+                / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getEntityIndexTime() {
+        return this.canvas.getMetrics().getEntityIndexTime()
+                / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getCoalescedRequestCount() {
+        return this.canvas.getMetrics().getCoalescedRequestCount();
+    }
+
+    @Override
+    public long getSkippedFrameCount() {
+        return this.canvas.getMetrics().getSkippedFrameCount();
+    }
+
+    @Override
+    public int getEntityCount() {
+        return this.canvas.getMetrics().getEntityCount();
+    }
+
+    @Override
+    public int getOverlayCount() {
+        return this.canvas.getOverlayCount();
+    }
+
+    @Override
+    public boolean isDirty() {
+        return this.canvas.isDirty();
+    }
+
+    @Override
+    public boolean isOverlaysDirty() {
+        return this.canvas.isOverlaysDirty();
+    }
+
+    @Override
+    public boolean isRenderPending() {
+        return this.canvas.isRenderPending();
+    }
+
+    @Override
+    public boolean isVisible() {
+        return this.canvas.isEffectivelyVisible();
+    }
+
+    @Override
+    public long getResizeFrameBytes() {
+        return this.canvas.getResizeFrameBytes();
+    }
+
+    @Override
+    public void requestDraw() {
+        this.canvas.requestDraw();
+    }
+
+    @Override
+    public void dropCaches() {
+        Platform.runLater(this.canvas::dropCaches);
+    }
+
+}
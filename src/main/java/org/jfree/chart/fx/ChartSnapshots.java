@@ -0,0 +1,383 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * ChartSnapshots.java
+ * -------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.block.Arrangement;
+import org.jfree.chart.block.ColumnArrangement;
+import org.jfree.chart.block.FlowArrangement;
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.fx.renderer.XYBlockGridEntity;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.title.CompositeTitle;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.Title;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Utility methods for taking a copy of a chart that can be drawn on another
+ * thread while the original chart continues to change.
+ */
+final class ChartSnapshots {
+
+    private ChartSnapshots() {
+        // no need to instantiate this
+    }
+
+    /**
+     * Returns a copy of a chart.  The datasets of an {@link XYPlot} or a
+     * {@link CategoryPlot} are copied too, if they implement
+     * {@link PublicCloneable} (other datasets, and the datasets in combined
+     * plots, are shared with the original chart).  The legends are copied
+     * too, with their sources pointed at the plot and renderers of the copy,
+     * when {@link #copiesTitles(JFreeChart)} returns {@code true} (the clone
+     * of a chart shares some parts of its titles, that are changed when the
+     * titles are drawn, with the original chart).  This method should be
+     * called on the thread that updates the chart, and the copy should be
+     * passed to {@link #release(JFreeChart)} when it is no longer needed.
+     * The time taken depends on the datasets: cloning most datasets copies
+     * every item, but a {@code ColumnarXYDataset} shares its series with
+     * its clones.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the chart cannot be copied.
+     */
+    static JFreeChart snapshot(JFreeChart chart)
+            throws CloneNotSupportedException {
+        JFreeChart copy = (JFreeChart) chart.clone();
+        Plot plot = copy.getPlot();
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (Map.Entry<Integer, XYDataset> entry
+                    : xyPlot.getDatasets().entrySet()) {
+                if (entry.getValue() instanceof PublicCloneable) {
+                    PublicCloneable pc = (PublicCloneable) entry.getValue();
+                    xyPlot.setDataset(entry.getKey(), (XYDataset) pc.clone());
+                }
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (Map.Entry<Integer, CategoryDataset> entry
+                    : categoryPlot.getDatasets().entrySet()) {
+                if (entry.getValue() instanceof PublicCloneable) {
+                    PublicCloneable pc = (PublicCloneable) entry.getValue();
+                    categoryPlot.setDataset(entry.getKey(),
+                            (CategoryDataset) pc.clone());
+                }
+            }
+        }
+        if (copiesTitles(chart)) {
+            List<Title> titles = copy.getSubtitles();
+            for (int i = 0; i < titles.size(); i++) {
+                if (titles.get(i) instanceof LegendTitle) {
+                    titles.set(i, copyLegend((LegendTitle) titles.get(i),
+                            chart.getPlot(), plot));
+                }
+            }
+            copy.setSubtitles(titles);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns {@code true} if {@link #snapshot(JFreeChart)} copies the
+     * titles of a chart, so that the copy can be drawn at the same time as
+     * the original chart.  This is the case when every legend is a
+     * {@link LegendTitle} with the default arrangements and no wrapper, that
+     * uses the plot (or its renderers) as sources, and there is no
+     * {@link CompositeTitle}.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean copiesTitles(JFreeChart chart) {
+        Plot plot = chart.getPlot();
+        for (Title title : chart.getSubtitles()) {
+            if (title instanceof CompositeTitle) {
+                return false;
+            }
+            if (title instanceof LegendTitle) {
+                LegendTitle legend = (LegendTitle) title;
+                Arrangement arrangement = legend.getItemContainer()
+                        .getArrangement();
+                if (legend.getClass() != LegendTitle.class
+                        || legend.getWrapper() != null
+                        || !(new FlowArrangement().equals(arrangement)
+                        || new ColumnArrangement().equals(arrangement))) {
+                    return false;
+                }
+                for (LegendItemSource source : legend.getSources()) {
+                    if (copySource(plot, plot, source) == null) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of a legend, with its own item container and with its
+     * sources pointed at the copy of the plot.
+     *
+     * @param legend  the legend (see {@link #copiesTitles(JFreeChart)}).
+     * @param original  the original plot.
+     * @param copy  the copy of the plot.
+     *
+     * @return The copy of the legend.
+     */
+    private static LegendTitle copyLegend(LegendTitle legend, Plot original,
+            Plot copy) {
+        LegendItemSource[] sources = legend.getSources().clone();
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = copySource(original, copy, sources[i]);
+        }
+        LegendTitle result = new LegendTitle(null);
+        result.setSources(sources);
+        result.setBackgroundPaint(legend.getBackgroundPaint());
+        result.setLegendItemGraphicEdge(legend.getLegendItemGraphicEdge());
+        result.setLegendItemGraphicAnchor(
+                legend.getLegendItemGraphicAnchor());
+        result.setLegendItemGraphicLocation(
+                legend.getLegendItemGraphicLocation());
+        result.setLegendItemGraphicPadding(
+                legend.getLegendItemGraphicPadding());
+        result.setItemFont(legend.getItemFont());
+        result.setItemPaint(legend.getItemPaint());
+        result.setItemLabelPadding(legend.getItemLabelPadding());
+        result.setSortOrder(legend.getSortOrder());
+        result.setVisible(legend.isVisible());
+        result.setPosition(legend.getPosition());
+        result.setHorizontalAlignment(legend.getHorizontalAlignment());
+        result.setVerticalAlignment(legend.getVerticalAlignment());
+        result.setID(legend.getID());
+        result.setWidth(legend.getWidth());
+        result.setHeight(legend.getHeight());
+        result.setMargin(legend.getMargin());
+        result.setFrame(legend.getFrame());
+        result.setPadding(legend.getPadding());
+        return result;
+    }
+
+    /**
+     * Returns the legend item source in a copy of a plot that corresponds to
+     * a legend item source in the original plot (the plot itself or one of
+     * its renderers).
+     *
+     * @param original  the original plot.
+     * @param copy  the copy of the plot.
+     * @param source  the legend item source.
+     *
+     * @return The source in the copy, or {@code null} if {@code source} is
+     *     not the original plot or one of its renderers.
+     */
+    private static LegendItemSource copySource(Plot original, Plot copy,
+            LegendItemSource source) {
+        if (source == original) {
+            return (LegendItemSource) copy;
+        }
+        if (original instanceof XYPlot) {
+            for (Map.Entry<Integer, XYItemRenderer> entry
+                    : ((XYPlot) original).getRenderers().entrySet()) {
+                if (entry.getValue() == source) {
+                    return ((XYPlot) copy).getRenderer(entry.getKey());
+                }
+            }
+        } else if (original instanceof CategoryPlot) {
+            for (Map.Entry<Integer, CategoryItemRenderer> entry
+                    : ((CategoryPlot) original).getRenderers().entrySet()) {
+                if (entry.getValue() == source) {
+                    return ((CategoryPlot) copy).getRenderer(entry.getKey());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if {@link #snapshot(JFreeChart)} copies all the
+     * datasets of a chart, so that the copy can be drawn while the original
+     * datasets change.  This is the case for an {@link XYPlot} or a
+     * {@link CategoryPlot} where every dataset implements
+     * {@link PublicCloneable}, and where the titles are copied too (see
+     * {@link #copiesTitles(JFreeChart)}).
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean copiesAllDatasets(JFreeChart chart) {
+        Plot plot = chart.getPlot();
+        if (!(plot instanceof XYPlot) && !(plot instanceof CategoryPlot)) {
+            return false;
+        }
+        if (!copiesTitles(chart)) {
+            return false;
+        }
+        if (plot instanceof XYPlot) {
+            for (XYDataset d : ((XYPlot) plot).getDatasets().values()) {
+                if (d != null && !(d instanceof PublicCloneable)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (CategoryDataset d : ((CategoryPlot) plot).getDatasets().values()) {
+            if (d != null && !(d instanceof PublicCloneable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a map from the datasets of a copy made by
+     * {@link #snapshot(JFreeChart)} to the corresponding datasets of the
+     * original chart (only the datasets that were copied are included).
+     * This method should be called straight after the copy is made.
+     *
+     * @param original  the original chart ({@code null} not permitted).
+     * @param copy  the copy ({@code null} not permitted).
+     *
+     * @return The map (never {@code null}).
+     */
+    static Map<Object, Object> datasetMap(JFreeChart original,
+            JFreeChart copy) {
+        Map<Object, Object> result = new IdentityHashMap<>();
+        Plot plot = original.getPlot();
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) copy.getPlot();
+            for (Map.Entry<Integer, XYDataset> entry
+                    : ((XYPlot) plot).getDatasets().entrySet()) {
+                Object d = xyPlot.getDataset(entry.getKey());
+                if (d != null && d != entry.getValue()) {
+                    result.put(d, entry.getValue());
+                }
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) copy.getPlot();
+            for (Map.Entry<Integer, CategoryDataset> entry
+                    : ((CategoryPlot) plot).getDatasets().entrySet()) {
+                Object d = categoryPlot.getDataset(entry.getKey());
+                if (d != null && d != entry.getValue()) {
+                    result.put(d, entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Points the item entities created by drawing a copy of a chart back at
+     * the datasets of the original chart, so that mouse listeners see the
+     * datasets that they know about.
+     *
+     * @param entities  the entities ({@code null} permitted).
+     * @param datasets  the map returned by
+     *     {@link #datasetMap(JFreeChart, JFreeChart)}.
+     */
+    static void relink(EntityCollection entities,
+            Map<Object, Object> datasets) {
+        if (entities == null || datasets.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof XYItemEntity) {
+                XYItemEntity e = (XYItemEntity) entity;
+                Object d = datasets.get(e.getDataset());
+                if (d != null) {
+                    e.setDataset((XYDataset) d);
+                }
+            } else if (entity instanceof XYBlockGridEntity) {
+                XYBlockGridEntity e = (XYBlockGridEntity) entity;
+                Object d = datasets.get(e.getDataset());
+                if (d != null) {
+                    e.setDataset((XYDataset) d);
+                }
+            } else if (entity instanceof CategoryItemEntity) {
+                CategoryItemEntity e = (CategoryItemEntity) entity;
+                Object d = datasets.get(e.getDataset());
+                if (d != null) {
+                    e.setDataset((CategoryDataset) d);
+                }
+            }
+        }
+    }
+
+    /**
+     * Detaches a copy made by {@link #snapshot(JFreeChart)} from the
+     * datasets that it shares with the original chart, so that the copy can
+     * be garbage collected.
+     *
+     * @param copy  the copy ({@code null} not permitted).
+     */
+    static void release(JFreeChart copy) {
+        Plot plot = copy.getPlot();
+        if (plot instanceof XYPlot) {
+            XYPlot xyPlot = (XYPlot) plot;
+            for (Integer key : xyPlot.getDatasets().keySet().toArray(
+                    new Integer[0])) {
+                xyPlot.setDataset(key, null);
+            }
+        } else if (plot instanceof CategoryPlot) {
+            CategoryPlot categoryPlot = (CategoryPlot) plot;
+            for (Integer key : categoryPlot.getDatasets().keySet().toArray(
+                    new Integer[0])) {
+                categoryPlot.setDataset(key, null);
+            }
+        }
+    }
+
+}
@@ -36,17 +36,44 @@
 
 package org.jfree.chart.fx;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.geometry.Pos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.input.ContextMenuEvent;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
 import javafx.stage.FileChooser;
+import javax.imageio.ImageIO;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.jfree.chart.ChartMouseEvent;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
@@ -60,10 +87,24 @@ import org.jfree.chart.util.Args;
  * {@link ChartCanvas}, adds drag zooming and provides a popup menu for export
  * to PNG/JPG/SVG and PDF formats).  Many behaviours (tooltips, zooming etc) are 
  * provided directly by the canvas.
+ * <p>
+ * Exports run on a background thread with a copy of the chart, so the chart
+ * can still be used (and updated) while the file is written.  A chart with
+ * datasets that cannot be copied (see
+ * {@link org.jfree.chart.util.PublicCloneable}), or with a plot other than
+ * an {@code XYPlot} or a {@code CategoryPlot}, is exported on the JavaFX
+ * application thread instead.  The file is written under a temporary name
+ * and only replaces the chosen file when the export succeeds.</p>
  */
 public class ChartViewer extends Region {
 
     private ChartCanvas canvas;
+
+    /** 
+     * A transparent canvas on top of the chart canvas that overlays are 
+     * painted on, so that overlay changes do not redraw the chart.
+     */
+    private Canvas overlayCanvas;
     
     /** 
      * The zoom rectangle is used to display the zooming region when
@@ -74,6 +115,18 @@ public class ChartViewer extends Region {
 
     /** The context menu for the chart viewer. */
     private ContextMenu contextMenu;
+
+    /** The "Export As" menu in the context menu. */
+    private Menu exportMenu;
+
+    /** 
+     * The progress indicator and cancel button that are displayed over the
+     * chart while it is being exported.
+     */
+    private VBox exportPane;
+
+    /** The export in progress (or {@code null}). */
+    private Task<Void> exportTask;
     
     /**
      * Creates a new instance, initially with no chart to display.  This 
@@ -105,11 +158,26 @@ public class ChartViewer extends Region {
         this.canvas.addMouseHandler(new ZoomHandlerFX("zoom", this));
         setFocusTraversable(true);
         getChildren().add(this.canvas);
+
+        this.overlayCanvas = new Canvas();
+        this.overlayCanvas.setMouseTransparent(true);
+        getChildren().add(this.overlayCanvas);
+        this.canvas.setOverlayLayer(this.overlayCanvas);
         
         this.zoomRectangle = new Rectangle(0, 0, new Color(0, 0, 1, 0.25));
         this.zoomRectangle.setManaged(false);
         this.zoomRectangle.setVisible(false);
         getChildren().add(this.zoomRectangle);
+
+        ProgressIndicator progress = new ProgressIndicator();
+        Button cancel = new Button("Cancel");
+        cancel.setOnAction(e -> cancelExport());
+        this.exportPane = new VBox(8.0, progress, cancel);
+        this.exportPane.setAlignment(Pos.CENTER);
+        this.exportPane.setManaged(false);
+        this.exportPane.setPickOnBounds(false);
+        this.exportPane.setVisible(false);
+        getChildren().add(this.exportPane);
         
         this.contextMenu = createContextMenu();
         setOnContextMenuRequested((ContextMenuEvent event) -> contextMenu.show(ChartViewer.this.getScene().getWindow(),
@@ -147,6 +215,30 @@ public class ChartViewer extends Region {
     public ChartCanvas getCanvas() {
         return this.canvas;
     }
+
+    /**
+     * Registers a {@link ChartCanvasMXBean} for the canvas in this viewer 
+     * with the platform MBean server (see 
+     * {@link ChartCanvas#registerMBean(String)}).  The MBean is unregistered
+     * when the viewer is removed from its scene.
+     * 
+     * @param name  the name that identifies the chart ({@code null} 
+     *     permitted).
+     * 
+     * @return The object name of the MBean.
+     * 
+     * @throws JMException if the MBean cannot be registered.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        return this.canvas.registerMBean(name);
+    }
+
+    /**
+     * Unregisters the MBean for the canvas in this viewer, if there is one.
+     */
+    public void unregisterMBean() {
+        this.canvas.unregisterMBean();
+    }
  
     /**
      * Returns the context menu for this component.
@@ -189,8 +281,14 @@ public class ChartViewer extends Region {
         super.layoutChildren();
         this.canvas.setLayoutX(0);
         this.canvas.setLayoutY(0);
+        this.canvas.prepareResize(getWidth(), getHeight());
         this.canvas.setWidth(getWidth());
         this.canvas.setHeight(getHeight());
+        this.overlayCanvas.setLayoutX(0);
+        this.overlayCanvas.setLayoutY(0);
+        this.overlayCanvas.setWidth(getWidth());
+        this.overlayCanvas.setHeight(getHeight());
+        this.exportPane.resizeRelocate(0, 0, getWidth(), getHeight());
     }
     
     /**
@@ -224,6 +322,7 @@ public class ChartViewer extends Region {
         final ContextMenu menu = new ContextMenu();
         menu.setAutoHide(true);
         Menu export = new Menu("Export As");
+        this.exportMenu = export;
         
         MenuItem pngItem = new MenuItem("PNG...");
         pngItem.setOnAction(e -> handleExportToPNG());        
@@ -232,6 +331,10 @@ public class ChartViewer extends Region {
         MenuItem jpegItem = new MenuItem("JPEG...");
         jpegItem.setOnAction(e -> handleExportToJPEG());        
         export.getItems().add(jpegItem);
+
+        MenuItem framePNGItem = new MenuItem("PNG (As Displayed)...");
+        framePNGItem.setOnAction(e -> handleExportFrameToPNG());
+        export.getItems().add(framePNGItem);
         
         if (ExportUtils.isOrsonPDFAvailable()) {
             MenuItem pdfItem = new MenuItem("PDF...");
@@ -258,8 +361,7 @@ public class ChartViewer extends Region {
         chooser.getExtensionFilters().add(filter);
         File file = chooser.showSaveDialog(getScene().getWindow());
         if (file != null) {
-            ExportUtils.writeAsPDF(this.canvas.getChart(), (int) getWidth(), 
-                    (int) getHeight(), file);
+            export(file, ExportUtils::writeAsPDF);
         } 
     }
     
@@ -274,8 +376,7 @@ public class ChartViewer extends Region {
         chooser.getExtensionFilters().add(filter);
         File file = chooser.showSaveDialog(getScene().getWindow());
         if (file != null) {
-            ExportUtils.writeAsSVG(this.canvas.getChart(), (int) getWidth(), 
-                    (int) getHeight(), file);
+            export(file, ExportUtils::writeAsSVG);
         }
     }
     
@@ -290,13 +391,7 @@ public class ChartViewer extends Region {
         chooser.getExtensionFilters().add(filter);
         File file = chooser.showSaveDialog(getScene().getWindow());
         if (file != null) {
-            try {
-                ExportUtils.writeAsPNG(this.canvas.getChart(), (int) getWidth(),
-                        (int) getHeight(), file);
-            } catch (IOException ex) {
-                // FIXME: show a dialog with the error
-                throw new RuntimeException(ex);
-            }
+            export(file, ExportUtils::writeAsPNG);
         }        
     }
 
@@ -310,14 +405,325 @@ public class ChartViewer extends Region {
         chooser.getExtensionFilters().add(filter);
         File file = chooser.showSaveDialog(getScene().getWindow());
         if (file != null) {
+            export(file, ExportUtils::writeAsJPEG);
+        }        
+    }
+
+    /**
+     * A handler for the export to PNG (as displayed) option in the context 
+     * menu.
+     */
+    private void handleExportFrameToPNG() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export to PNG (As Displayed)");
+        FileChooser.ExtensionFilter filter = new FileChooser.ExtensionFilter(
+                "Portable Network Graphics (PNG)", "*.png");
+        chooser.getExtensionFilters().add(filter);
+        File file = chooser.showSaveDialog(getScene().getWindow());
+        if (file != null) {
+            WritableImage frame = snapshotFrame(getOutputScale(), false);
+            runExport(file, f -> {
+                try (OutputStream out = new BufferedOutputStream(
+                        new FileOutputStream(f))) {
+                    writeImage(frame, "png", out);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns an image of the chart exactly as it is displayed, including 
+     * the overlays.  The image is taken from the content of the canvas, so
+     * the chart is not drawn again.  This method must be called on the 
+     * JavaFX application thread.
+     * 
+     * @param scale  the scale (for example {@code 2.0} for an image with 
+     *     twice the width and height of the viewer, as on a HiDPI display).
+     * @param opaque  if {@code true} the transparent parts of the viewer 
+     *     are filled with white.
+     * 
+     * @return The image.
+     */
+    public WritableImage snapshotFrame(double scale, boolean opaque) {
+        this.canvas.flush();
+        int w = Math.max(1, (int) Math.ceil(getWidth() * scale));
+        int h = Math.max(1, (int) Math.ceil(getHeight() * scale));
+        SnapshotParameters params = new SnapshotParameters();
+        params.setTransform(Transform.scale(scale, scale));
+        params.setFill(opaque ? Color.WHITE : Color.TRANSPARENT);
+        boolean zoomVisible = this.zoomRectangle.isVisible();
+        boolean exportVisible = this.exportPane.isVisible();
+        this.zoomRectangle.setVisible(false);
+        this.exportPane.setVisible(false);
+        try {
+            return snapshot(params, new WritableImage(w, h));
+        } finally {
+            this.zoomRectangle.setVisible(zoomVisible);
+            this.exportPane.setVisible(exportVisible);
+        }
+    }
+
+    /**
+     * Writes an image of the chart exactly as it is displayed (see 
+     * {@link #snapshotFrame(double, boolean)}) to a stream.  The time taken
+     * depends only on the size of the image, not on the complexity of the
+     * chart.  This method must be called on the JavaFX application thread.
+     * 
+     * @param out  the output stream ({@code null} not permitted).
+     * @param formatName  the ImageIO format name (for example "png" or 
+     *     "jpg").
+     * @param scale  the scale.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeFrame(OutputStream out, String formatName, double scale)
+            throws IOException {
+        Args.nullNotPermitted(out, "out");
+        Args.nullNotPermitted(formatName, "formatName");
+        boolean opaque = !"png".equalsIgnoreCase(formatName)
+                && !"gif".equalsIgnoreCase(formatName);
+        writeImage(snapshotFrame(scale, opaque), formatName, out);
+    }
+
+    /**
+     * Encodes an image with ImageIO.  The pixels are copied directly into 
+     * the buffer of an AWT image.
+     * 
+     * @param image  the image.
+     * @param formatName  the ImageIO format name.
+     * @param out  the output stream.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeImage(Image image, String formatName, 
+            OutputStream out) throws IOException {
+        int w = (int) image.getWidth();
+        int h = (int) image.getHeight();
+        boolean alpha = "png".equalsIgnoreCase(formatName)
+                || "gif".equalsIgnoreCase(formatName);
+        BufferedImage awtImage = new BufferedImage(w, h, alpha 
+                ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        int[] data = ((DataBufferInt) awtImage.getRaster().getDataBuffer())
+                .getData();
+        image.getPixelReader().getPixels(0, 0, w, h, 
+                PixelFormat.getIntArgbInstance(), data, 0, w);
+        if (!ImageIO.write(awtImage, formatName, out)) {
+            throw new IOException("No image writer for " + formatName);
+        }
+    }
+
+    /**
+     * Returns the output scale of the window that contains the viewer.
+     * 
+     * @return The output scale.
+     */
+    private double getOutputScale() {
+        if (getScene() == null || getScene().getWindow() == null) {
+            return 1.0;
+        }
+        return getScene().getWindow().getOutputScaleX();
+    }
+
+    /**
+     * Writes a chart to a file (for example, one of the methods in 
+     * {@code ExportUtils}).
+     */
+    @FunctionalInterface
+    private interface ExportFunction {
+
+        /**
+         * Writes the chart to a file.
+         * 
+         * @param chart  the chart.
+         * @param w  the width.
+         * @param h  the height.
+         * @param file  the file.
+         * 
+         * @throws IOException if there is an I/O problem.
+         */
+        void write(JFreeChart chart, int w, int h, File file) 
+                throws IOException;
+    }
+
+    /**
+     * Writes a file as part of an export.
+     */
+    @FunctionalInterface
+    private interface ExportAction {
+
+        /**
+         * Writes the file.
+         * 
+         * @param file  the file.
+         * 
+         * @throws IOException if there is an I/O problem.
+         */
+        void run(File file) throws IOException;
+    }
+
+    /**
+     * Exports a copy of the chart to a file on a background thread (see
+     * {@link #runExport(File, ExportAction)}).  The chart can be changed 
+     * while the file is being written.  If the datasets or the legend 
+     * sources cannot all be copied, the chart is exported on this thread 
+     * instead.
+     * 
+     * @param file  the file.
+     * @param function  the function that writes the chart to the file.
+     */
+    private void export(File file, ExportFunction function) {
+        JFreeChart chart = this.canvas.getChart();
+        if (chart == null || this.exportTask != null) {
+            return;
+        }
+        int w = (int) getWidth();
+        int h = (int) getHeight();
+        if (!ChartSnapshots.copiesAllDatasets(chart)) {
+            // the original chart would be read on the background thread
             try {
-                ExportUtils.writeAsJPEG(this.canvas.getChart(), (int) getWidth(),
-                        (int) getHeight(), file);
-            } catch (IOException ex) {
-                // FIXME: show a dialog with the error
-                throw new RuntimeException(ex);
+                writeAndReplace(file, f -> function.write(chart, w, h, f),
+                        () -> false);
+            } catch (IOException | RuntimeException e) {
+                showExportError(file, e);
             }
-        }        
+            return;
+        }
+        JFreeChart copy;
+        try {
+            copy = ChartSnapshots.snapshot(chart);
+        } catch (CloneNotSupportedException e) {
+            showExportError(file, e);
+            return;
+        }
+        runExport(file, f -> {
+            try {
+                function.write(copy, w, h, f);
+            } finally {
+                ChartSnapshots.release(copy);
+            }
+        });
+    }
+
+    /**
+     * Runs an export on a background thread, while a progress indicator 
+     * with a cancel button is displayed over the chart.  The progress 
+     * indicator stays up (and no other export can start) until the 
+     * background thread has stopped writing, even if the export is 
+     * cancelled.  If the export is cancelled the partly written file is 
+     * deleted, and if it fails the error is shown in a dialog.
+     * 
+     * @param file  the file.
+     * @param action  the action that writes the file.
+     */
+    private void runExport(File file, ExportAction action) {
+        if (this.exportTask != null) {
+            return;
+        }
+        // the export is finished by the worker thread once it has stopped
+        // writing, or by the cancel handler if the worker never started
+        AtomicBoolean claimed = new AtomicBoolean();
+        Task<Void> task = new Task<Void>() {
+            @Override
+            protected Void call() throws Exception {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    writeAndReplace(file, action, this::isCancelled);
+                } finally {
+                    Platform.runLater(() -> finishExport(this));
+                }
+                return null;
+            }
+        };
+        task.setOnCancelled(e -> {
+            if (claimed.compareAndSet(false, true)) {
+                finishExport(task);
+            }
+        });
+        task.setOnFailed(e -> showExportError(file, task.getException()));
+        this.exportTask = task;
+        this.exportPane.setVisible(true);
+        this.exportMenu.setDisable(true);
+        Thread thread = new Thread(task, "ChartViewer-export");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Writes a file under a temporary name in the same directory and, 
+     * unless the export has been cancelled, moves it into place.  The 
+     * temporary file is always deleted, so an existing file is only 
+     * replaced by a complete export.
+     * 
+     * @param file  the file.
+     * @param action  the action that writes the file.
+     * @param cancelled  returns {@code true} if the export was cancelled.
+     * 
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeAndReplace(File file, ExportAction action,
+            BooleanSupplier cancelled) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), 
+                target.getFileName() + ".", ".part");
+        try {
+            action.run(temp.toFile());
+            if (cancelled.getAsBoolean()) {
+                return;
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Cancels the export in progress (if any).  The export finishes when 
+     * the background thread stops writing.
+     */
+    private void cancelExport() {
+        if (this.exportTask != null) {
+            this.exportTask.cancel(true);
+        }
+    }
+
+    /**
+     * Hides the progress indicator at the end of an export.
+     * 
+     * @param task  the task for the export.
+     */
+    private void finishExport(Task<Void> task) {
+        if (this.exportTask != task) {
+            return;
+        }
+        this.exportTask = null;
+        this.exportPane.setVisible(false);
+        this.exportMenu.setDisable(false);
+    }
+
+    /**
+     * Shows a dialog that reports a failed export.
+     * 
+     * @param file  the file.
+     * @param error  the error ({@code null} permitted).
+     */
+    private void showExportError(File file, Throwable error) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.initOwner(getScene() != null ? getScene().getWindow() : null);
+        alert.setTitle("Export Failed");
+        alert.setHeaderText("The chart could not be exported to " 
+                + file.getName() + ".");
+        if (error != null) {
+            alert.setContentText(error.getMessage() != null 
+                    ? error.getMessage() : error.toString());
+        }
+        alert.show();
     }
 
     /**
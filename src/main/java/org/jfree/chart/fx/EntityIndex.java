@@ -0,0 +1,294 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * EntityIndex.java
+ * ----------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+
+/**
+ * A spatial index (a uniform grid) over the entities in an
+ * {@link EntityCollection}, used by the {@link ChartCanvas} to find the
+ * entity at a point without scanning the whole collection.  The index
+ * returns the same entity as {@link EntityCollection#getEntity(double,
+ * double)}, that is the most recently added entity containing the point.
+ * <p>
+ * The index is a snapshot, it does not see entities that are added to the
+ * collection after it is built.</p>
+ * <p>
+ * The index remembers the result of the last lookup, so that repeated 
+ * lookups while the mouse pointer stays inside the same entity are 
+ * answered without searching.</p>
+ */
+final class EntityIndex {
+
+    /** The minimum width and height of a grid cell (in Java2D units). */
+    private static final double MIN_CELL_SIZE = 8.0;
+
+    /** The maximum number of grid cells in each direction. */
+    private static final int MAX_CELLS = 256;
+
+    /** The average number of entities per cell that the grid aims for. */
+    private static final int ENTITIES_PER_CELL = 4;
+
+    /** The collection that the index was built from. */
+    private final EntityCollection entities;
+
+    /** The entities (in the order they were added to the collection). */
+    private final ChartEntity[] items;
+
+    /** The grid origin. */
+    private final double x0, y0;
+
+    /** The cell size. */
+    private final double cellW, cellH;
+
+    /** The number of columns and rows in the grid. */
+    private final int cols, rows;
+
+    /**
+     * The start offset in {@code cellItems} for each cell (with an extra
+     * element at the end).
+     */
+    private final int[] cellStart;
+
+    /** The entity indices for all cells, in ascending order within a cell. */
+    private final int[] cellItems;
+
+    /** The cell for the last lookup. */
+    private int lastCell;
+
+    /** 
+     * The result of the last lookup, if it was the topmost entity in its 
+     * cell (otherwise {@code null}).
+     */
+    private ChartEntity lastTop;
+
+    /**
+     * Creates a new index for the entities in the collection.
+     *
+     * @param entities  the entities ({@code null} not permitted).
+     * @param bounds  the area covered by the grid ({@code null} not
+     *     permitted), usually the chart area.
+     */
+    EntityIndex(EntityCollection entities, Rectangle2D bounds) {
+        this.entities = entities;
+        this.lastCell = -1;
+        int n = entities.getEntityCount();
+        this.items = new ChartEntity[n];
+        double w = Math.max(bounds.getWidth(), 1.0);
+        double h = Math.max(bounds.getHeight(), 1.0);
+        double cellSize = Math.max(MIN_CELL_SIZE,
+                Math.sqrt(w * h * ENTITIES_PER_CELL / Math.max(n, 1)));
+        this.x0 = bounds.getX();
+        this.y0 = bounds.getY();
+        this.cols = Math.min(MAX_CELLS, (int) Math.ceil(w / cellSize));
+        this.rows = Math.min(MAX_CELLS, (int) Math.ceil(h / cellSize));
+        this.cellW = w / this.cols;
+        this.cellH = h / this.rows;
+
+        // first pass: count the entries for each cell
+        int[] cellBounds = new int[4 * n];
+        this.cellStart = new int[this.cols * this.rows + 1];
+        for (int i = 0; i < n; i++) {
+            ChartEntity entity = entities.getEntity(i);
+            this.items[i] = entity;
+            Rectangle2D r = entity.getArea().getBounds2D();
+            int c0 = column(r.getMinX());
+            int c1 = column(r.getMaxX());
+            int r0 = row(r.getMinY());
+            int r1 = row(r.getMaxY());
+            cellBounds[4 * i] = c0;
+            cellBounds[4 * i + 1] = c1;
+            cellBounds[4 * i + 2] = r0;
+            cellBounds[4 * i + 3] = r1;
+            for (int row = r0; row <= r1; row++) {
+                for (int col = c0; col <= c1; col++) {
+                    this.cellStart[row * this.cols + col + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < this.cols * this.rows; c++) {
+            this.cellStart[c + 1] += this.cellStart[c];
+        }
+
+        // second pass: fill in the entity indices
+        this.cellItems = new int[this.cellStart[this.cols * this.rows]];
+        int[] next = new int[this.cols * this.rows];
+        System.arraycopy(this.cellStart, 0, next, 0, next.length);
+        for (int i = 0; i < n; i++) {
+            for (int row = cellBounds[4 * i + 2];
+                    row <= cellBounds[4 * i + 3]; row++) {
+                for (int col = cellBounds[4 * i];
+                        col <= cellBounds[4 * i + 1]; col++) {
+                    this.cellItems[next[row * this.cols + col]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entity collection that this index was built from.
+     *
+     * @return The entity collection.
+     */
+    EntityCollection getEntities() {
+        return this.entities;
+    }
+
+    /**
+     * Returns the number of entities in the index.
+     *
+     * @return The entity count.
+     */
+    int getEntityCount() {
+        return this.items.length;
+    }
+
+    /**
+     * Returns the entity at the specified location, or {@code null} if there
+     * is no entity at that location.  Where entities overlap, the entity
+     * that was added to the collection last is returned.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    ChartEntity getEntity(double x, double y) {
+        int cell = cellIndex(x, y);
+        if (cell < 0) {
+            // outside the grid, fall back to scanning the collection
+            return this.entities.getEntity(x, y);
+        }
+        // no other entity in the cell can be on top of the last result
+        if (cell == this.lastCell && this.lastTop != null 
+                && this.lastTop.getArea().contains(x, y)) {
+            return this.lastTop;
+        }
+        int top = this.cellStart[cell + 1] - 1;
+        this.lastCell = cell;
+        this.lastTop = null;
+        for (int k = top; k >= this.cellStart[cell]; k--) {
+            ChartEntity entity = this.items[this.cellItems[k]];
+            if (entity.getArea().contains(x, y)) {
+                if (k == top) {
+                    this.lastTop = entity;
+                }
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns all the entities that contain the specified location, with
+     * the entity that was added to the collection last (the one returned
+     * by {@link #getEntity(double, double)}) first.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entities (possibly empty, never {@code null}).
+     */
+    List<ChartEntity> getCandidates(double x, double y) {
+        List<ChartEntity> result = new ArrayList<>();
+        int cell = cellIndex(x, y);
+        if (cell < 0) {
+            // outside the grid, scan the collection
+            for (int i = this.items.length - 1; i >= 0; i--) {
+                if (this.items[i].getArea().contains(x, y)) {
+                    result.add(this.items[i]);
+                }
+            }
+            return result;
+        }
+        for (int k = this.cellStart[cell + 1] - 1; k >= this.cellStart[cell];
+                k--) {
+            ChartEntity entity = this.items[this.cellItems[k]];
+            if (entity.getArea().contains(x, y)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the grid cell containing the specified location,
+     * or {@code -1} if the location is outside the grid.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The cell index.
+     */
+    int cellIndex(double x, double y) {
+        double cx = (x - this.x0) / this.cellW;
+        double cy = (y - this.y0) / this.cellH;
+        if (!(cx >= 0.0 && cx < this.cols && cy >= 0.0 && cy < this.rows)) {
+            return -1;
+        }
+        return (int) cy * this.cols + (int) cx;
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate (clamped to the grid).
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column.
+     */
+    private int column(double x) {
+        int c = (int) Math.floor((x - this.x0) / this.cellW);
+        return Math.max(0, Math.min(this.cols - 1, c));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate (clamped to the grid).
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row.
+     */
+    private int row(double y) {
+        int r = (int) Math.floor((y - this.y0) / this.cellH);
+        return Math.max(0, Math.min(this.rows - 1, r));
+    }
+
+}
@@ -0,0 +1,136 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * FXChartHints.java
+ * -----------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.Graphics2D;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Special rendering hints that the {@link ChartCanvas} sets on the
+ * {@code Graphics2D} that it draws charts with.
+ */
+public final class FXChartHints {
+
+    private FXChartHints() {
+        // no need to instantiate this
+    }
+
+    /**
+     * The key for a hint that holds the JavaFX {@code GraphicsContext} that
+     * a {@code Graphics2D} draws to.  Renderers that recognise the hint can
+     * draw directly to the graphics context, provided that they save and
+     * restore its state around the drawing.
+     */
+    public static final Key KEY_GRAPHICS_CONTEXT = new FXChartHints.Key(0);
+
+    /**
+     * The key for a hint that controls whether renderers draw the outlines
+     * of shapes ({@code Boolean.TRUE} or {@code Boolean.FALSE}, the default
+     * is to draw outlines).  The {@link ChartCanvas} sets this to 
+     * {@code Boolean.FALSE} to draw faster while the user is interacting 
+     * with the chart (see 
+     * {@link ChartCanvas#setInteractionOutlines(boolean)}), and renderers 
+     * that recognise the hint skip the outlines that they would otherwise 
+     * draw.
+     */
+    public static final Key KEY_SHAPE_OUTLINES = new FXChartHints.Key(1);
+
+    /**
+     * Returns the JavaFX graphics context that the specified
+     * {@code Graphics2D} draws to, or {@code null} if it is not known (for
+     * example when a chart is drawn to an image).
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     *
+     * @return The graphics context (possibly {@code null}).
+     */
+    public static GraphicsContext getGraphicsContext(Graphics2D g2) {
+        Object gc = g2.getRenderingHint(KEY_GRAPHICS_CONTEXT);
+        return gc instanceof GraphicsContext ? (GraphicsContext) gc : null;
+    }
+
+    /**
+     * Returns {@code false} if the {@link #KEY_SHAPE_OUTLINES} hint is set
+     * to {@code Boolean.FALSE} for the specified {@code Graphics2D}, and 
+     * {@code true} otherwise.
+     *
+     * @param g2  the graphics target ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isShapeOutlines(Graphics2D g2) {
+        return !Boolean.FALSE.equals(g2.getRenderingHint(KEY_SHAPE_OUTLINES));
+    }
+
+    /**
+     * A key for rendering hints that can be used with the
+     * {@link ChartCanvas} (in addition to the regular Java2D rendering
+     * hints).
+     */
+    public static class Key extends java.awt.RenderingHints.Key {
+
+        /**
+         * Creates a new key.
+         *
+         * @param privateKey  the private key.
+         */
+        public Key(int privateKey) {
+            super(privateKey);
+        }
+
+        /**
+         * Returns {@code true} if {@code val} is a value that is
+         * compatible with this key, and {@code false} otherwise.
+         *
+         * @param val  the value.
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            switch (intKey()) {
+                case 0:
+                    return val == null || val instanceof GraphicsContext;
+                case 1:
+                    return val instanceof Boolean;
+                default:
+                    throw new RuntimeException("Not possible!");
+            }
+        }
+    }
+
+}
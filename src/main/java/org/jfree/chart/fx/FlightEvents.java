@@ -0,0 +1,204 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * FlightEvents.java
+ * -----------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.title.TextTitle;
+
+/**
+ * The Java Flight Recorder events emitted by {@link ChartCanvas}.  Each
+ * event records the chart, the canvas size and the entity count along with
+ * its duration.  The events are used in the usual way:
+ * <pre>
+ * DrawEvent event = new DrawEvent();
+ * event.begin();
+ * // ... the work ...
+ * if (event.shouldCommit()) {
+ *     event.set(canvas);
+ *     event.commit();
+ * }</pre>
+ * When the events are not enabled in a recording, the JIT compiler removes
+ * them entirely.
+ */
+final class FlightEvents {
+
+    private FlightEvents() {
+        // no need to instantiate this
+    }
+
+    /**
+     * The base class for the events, with the fields that identify the
+     * chart and canvas.
+     */
+    @Category({"JFreeChart-FX"})
+    abstract static class CanvasEvent extends Event {
+
+        /** The chart identity. */
+        @Label("Chart")
+        @Description("The chart class and identity hash code")
+        String chart;
+
+        /** The chart title. */
+        @Label("Chart Title")
+        String chartTitle;
+
+        /** The canvas width. */
+        @Label("Canvas Width")
+        double canvasWidth;
+
+        /** The canvas height. */
+        @Label("Canvas Height")
+        double canvasHeight;
+
+        /** The number of entities. */
+        @Label("Entity Count")
+        int entityCount;
+
+        /**
+         * Sets the fields that identify the chart and canvas.
+         *
+         * @param canvas  the canvas ({@code null} not permitted).
+         */
+        void set(ChartCanvas canvas) {
+            set(canvas.getChart(), canvas.getWidth(), canvas.getHeight(),
+                    canvas.getRenderingInfo());
+        }
+
+        /**
+         * Sets the fields that identify the chart and canvas.
+         *
+         * @param c  the chart ({@code null} permitted).
+         * @param width  the canvas width.
+         * @param height  the canvas height.
+         * @param info  the rendering info ({@code null} permitted).
+         */
+        void set(JFreeChart c, double width, double height,
+                ChartRenderingInfo info) {
+            if (c != null) {
+                this.chart = c.getClass().getSimpleName() + "@"
+                        + Integer.toHexString(System.identityHashCode(c));
+                TextTitle title = c.getTitle();
+                this.chartTitle = title != null ? title.getText() : null;
+            }
+            this.canvasWidth = width;
+            this.canvasHeight = height;
+            if (info != null && info.getEntityCollection() != null) {
+                this.entityCount = info.getEntityCollection()
+                        .getEntityCount();
+            }
+        }
+    }
+
+    /**
+     * An event for drawing the chart on a canvas.
+     */
+    @Name("org.jfree.chart.fx.Draw")
+    @Label("Chart Draw")
+    @Description("The chart is drawn on a ChartCanvas")
+    static final class DrawEvent extends CanvasEvent {
+
+        /** Whether only the data area was redrawn. */
+        @Label("Data Area Only")
+        boolean dataAreaOnly;
+
+        /** Whether the chart was drawn on a background thread. */
+        @Label("Asynchronous")
+        boolean async;
+    }
+
+    /**
+     * An event for painting the overlays on a canvas.
+     */
+    @Name("org.jfree.chart.fx.OverlayPaint")
+    @Label("Overlay Paint")
+    @Description("The overlays are painted on a ChartCanvas")
+    static final class OverlayPaintEvent extends CanvasEvent {
+
+        /** The number of overlays. */
+        @Label("Overlay Count")
+        int overlayCount;
+    }
+
+    /**
+     * An event for finding the entity under the mouse pointer.
+     */
+    @Name("org.jfree.chart.fx.HitTest")
+    @Label("Entity Hit-Test")
+    @Description("The entity under the mouse pointer is looked up")
+    static final class HitTestEvent extends CanvasEvent {
+
+        /** The ID of the mouse handler that asked for the entity. */
+        @Label("Handler")
+        String handler;
+
+        /** The x-coordinate. */
+        @Label("X")
+        double x;
+
+        /** The y-coordinate. */
+        @Label("Y")
+        double y;
+
+        /** The class of the entity found (if any). */
+        @Label("Entity Class")
+        Class<?> entityClass;
+    }
+
+    /**
+     * An event for a mouse handler callback.
+     */
+    @Name("org.jfree.chart.fx.MouseHandler")
+    @Label("Mouse Handler")
+    @Description("A mouse handler handles an event from a ChartCanvas")
+    static final class MouseHandlerEvent extends CanvasEvent {
+
+        /** The handler ID. */
+        @Label("Handler")
+        String handler;
+
+        /** The type of the mouse or scroll event. */
+        @Label("Event Type")
+        String eventType;
+    }
+
+}
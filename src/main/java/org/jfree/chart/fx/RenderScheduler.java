@@ -0,0 +1,232 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * RenderScheduler.java
+ * --------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javafx.animation.AnimationTimer;
+
+/**
+ * The scheduler that draws all the {@link ChartCanvas} instances in an
+ * application.  A canvas that needs to be redrawn joins a queue, and on each
+ * JavaFX pulse the scheduler draws the canvases in the queue until the
+ * frame budget (see {@link #setFrameBudget(double)}) is used up.  The
+ * canvases that are not reached stay in the queue, ahead of any new
+ * requests, and are drawn on the next pulse.  At least one canvas is drawn
+ * on every pulse, so a single slow chart is never starved.
+ * <p>
+ * Within a pulse, canvases under the mouse pointer or containing the focus
+ * owner are drawn first, then other canvases that are showing, then the
+ * rest.  The maximum frame rate of each canvas (see
+ * {@link ChartCanvas#setMaxFrameRate(double)}) still applies.</p>
+ * <p>
+ * The scheduler must only be used on the JavaFX application thread.</p>
+ */
+public final class RenderScheduler {
+
+    /** The priority for a canvas under the mouse or containing the focus. */
+    static final int PRIORITY_ACTIVE = 2;
+
+    /** The priority for a canvas that is showing. */
+    static final int PRIORITY_VISIBLE = 1;
+
+    /** The priority for any other canvas. */
+    static final int PRIORITY_HIDDEN = 0;
+
+    /** The shared instance (created on demand). */
+    private static RenderScheduler instance;
+
+    /** The canvases waiting to be drawn, in the order of their requests. */
+    private Set<ChartCanvas> queue;
+
+    /** The timer that runs while the queue is not empty. */
+    private final AnimationTimer timer;
+
+    /** A flag that records whether or not the timer is running. */
+    private boolean timerRunning;
+
+    /** The time allowed for drawing on each pulse (in milliseconds). */
+    private double frameBudget;
+
+    /** The number of frames that were deferred to a later pulse. */
+    private long deferredFrameCount;
+
+    /**
+     * Returns the scheduler that is shared by all the chart canvases.
+     *
+     * @return The scheduler (never {@code null}).
+     */
+    public static RenderScheduler getInstance() {
+        if (instance == null) {
+            instance = new RenderScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a new scheduler.
+     */
+    private RenderScheduler() {
+        this.queue = new LinkedHashSet<>();
+        this.frameBudget = 8.0;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                handlePulse(now);
+            }
+        };
+    }
+
+    /**
+     * Returns the time (in milliseconds) that the scheduler spends drawing
+     * canvases on each pulse before it defers the remaining canvases to the
+     * next pulse.  The default value is {@code 8.0}.
+     *
+     * @return The frame budget.
+     */
+    public double getFrameBudget() {
+        return this.frameBudget;
+    }
+
+    /**
+     * Sets the time (in milliseconds) that the scheduler spends drawing
+     * canvases on each pulse before it defers the remaining canvases to the
+     * next pulse.  A value of zero or less means that every canvas in the
+     * queue is drawn on each pulse.
+     *
+     * @param millis  the frame budget.
+     */
+    public void setFrameBudget(double millis) {
+        this.frameBudget = millis;
+    }
+
+    /**
+     * Returns the number of canvases that are waiting to be drawn.
+     *
+     * @return The queue depth.
+     */
+    public int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    /**
+     * Returns the number of times that a canvas waiting to be drawn was
+     * carried over to the next pulse because the frame budget was used up.
+     *
+     * @return The deferred frame count.
+     */
+    public long getDeferredFrameCount() {
+        return this.deferredFrameCount;
+    }
+
+    /**
+     * Adds a canvas to the queue (if it is not already queued).
+     *
+     * @param canvas  the canvas ({@code null} not permitted).
+     */
+    void schedule(ChartCanvas canvas) {
+        this.queue.add(canvas);
+        if (!this.timerRunning) {
+            this.timerRunning = true;
+            this.timer.start();
+        }
+    }
+
+    /**
+     * Removes a canvas from the queue.
+     *
+     * @param canvas  the canvas.
+     */
+    void cancel(ChartCanvas canvas) {
+        this.queue.remove(canvas);
+    }
+
+    /**
+     * Draws the canvases in the queue, in order of priority, until the
+     * frame budget is used up.
+     *
+     * @param now  the timestamp of the current pulse (in nanoseconds).
+     */
+    private void handlePulse(long now) {
+        List<ChartCanvas> active = new ArrayList<>();
+        List<ChartCanvas> visible = new ArrayList<>();
+        List<ChartCanvas> pending = new ArrayList<>();
+        for (ChartCanvas canvas : this.queue) {
+            int priority = canvas.getRenderPriority();
+            if (priority == PRIORITY_ACTIVE) {
+                active.add(canvas);
+            } else if (priority == PRIORITY_VISIBLE) {
+                visible.add(canvas);
+            } else {
+                pending.add(canvas);
+            }
+        }
+        active.addAll(visible);
+        active.addAll(pending);
+        // canvases that request a draw while others are being drawn are
+        // added to a fresh queue
+        this.queue = new LinkedHashSet<>();
+
+        long start = System.nanoTime();
+        long budget = (long) (this.frameBudget * 1000000.0);
+        boolean exhausted = false;
+        List<ChartCanvas> carried = new ArrayList<>();
+        for (ChartCanvas canvas : active) {
+            if (exhausted) {
+                carried.add(canvas);
+                this.deferredFrameCount++;
+                continue;
+            }
+            if (canvas.handlePulse(now)) {
+                carried.add(canvas);
+            }
+            exhausted = budget > 0 && System.nanoTime() - start >= budget;
+        }
+        if (!carried.isEmpty()) {
+            Set<ChartCanvas> next = new LinkedHashSet<>(carried);
+            next.addAll(this.queue);
+            this.queue = next;
+        }
+        if (this.queue.isEmpty()) {
+            this.timer.stop();
+            this.timerRunning = false;
+        }
+    }
+
+}
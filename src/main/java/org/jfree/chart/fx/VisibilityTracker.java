@@ -0,0 +1,246 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * VisibilityTracker.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.stage.Window;
+
+/**
+ * Tracks whether a node can actually be seen: it must be in a scene whose
+ * window is showing, the node and all its ancestors must be visible (this
+ * covers, for example, the content of an unselected {@code Tab}), and it
+ * must intersect the viewport of every {@code ScrollPane} that contains
+ * it.  A callback is run each time the result changes.
+ * <p>
+ * The tracker listens to the properties involved, and rebuilds its
+ * listeners whenever the node moves to another parent, scene or window.
+ * It must only be used on the JavaFX application thread.</p>
+ */
+final class VisibilityTracker {
+
+    /** The node. */
+    private final Node node;
+
+    /** The callback run when the visibility changes. */
+    private final Runnable callback;
+
+    /** 
+     * The listener for the properties that affect the visibility (a change
+     * listener, so that it sees every change without reading the values).
+     */
+    private final ChangeListener<Object> updateListener;
+
+    /** The listener for the properties that change the node's ancestry. */
+    private final InvalidationListener structureListener;
+
+    /** The properties observed by the {@code updateListener}. */
+    private final List<ObservableValue<?>> updateSources;
+
+    /** The properties observed by the {@code structureListener}. */
+    private final List<Observable> structureSources;
+
+    /** The scroll panes that contain the node. */
+    private final List<ScrollPane> scrollPanes;
+
+    /** The current visibility. */
+    private boolean visible;
+
+    /**
+     * Creates a new tracker for the specified node.
+     *
+     * @param node  the node ({@code null} not permitted).
+     * @param callback  the callback that is run when the visibility of the
+     *     node changes ({@code null} not permitted).
+     */
+    VisibilityTracker(Node node, Runnable callback) {
+        this.node = node;
+        this.callback = callback;
+        this.updateListener = (obs, oldValue, newValue) -> update();
+        this.structureListener = e -> rebuild();
+        this.updateSources = new ArrayList<>();
+        this.structureSources = new ArrayList<>();
+        this.scrollPanes = new ArrayList<>();
+        rebuild();
+    }
+
+    /**
+     * Returns {@code true} if the node can be seen, and {@code false}
+     * otherwise.
+     *
+     * @return A boolean.
+     */
+    boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Removes all the listeners and adds them again for the current
+     * ancestors, scene and window of the node, then updates the
+     * visibility.
+     */
+    private void rebuild() {
+        for (ObservableValue<?> o : this.updateSources) {
+            o.removeListener(this.updateListener);
+        }
+        for (Observable o : this.structureSources) {
+            o.removeListener(this.structureListener);
+        }
+        this.updateSources.clear();
+        this.structureSources.clear();
+        this.scrollPanes.clear();
+
+        listen(this.node.sceneProperty());
+        for (Node n = this.node; n != null; n = n.getParent()) {
+            watch(n.visibleProperty());
+            listen(n.parentProperty());
+            if (n instanceof ScrollPane) {
+                ScrollPane sp = (ScrollPane) n;
+                this.scrollPanes.add(sp);
+                watch(sp.hvalueProperty());
+                watch(sp.vvalueProperty());
+                watch(sp.viewportBoundsProperty());
+            }
+        }
+        if (!this.scrollPanes.isEmpty()) {
+            watch(this.node.localToSceneTransformProperty());
+        }
+        Scene scene = this.node.getScene();
+        if (scene != null) {
+            listen(scene.windowProperty());
+            Window window = scene.getWindow();
+            if (window != null) {
+                watch(window.showingProperty());
+            }
+        }
+        update();
+    }
+
+    /**
+     * Adds the {@code structureListener} to a property and records the
+     * property.
+     *
+     * @param o  the property.
+     */
+    private void listen(Observable o) {
+        o.addListener(this.structureListener);
+        this.structureSources.add(o);
+    }
+
+    /**
+     * Adds the {@code updateListener} to a property and records the
+     * property.
+     *
+     * @param o  the property.
+     */
+    private void watch(ObservableValue<?> o) {
+        o.addListener(this.updateListener);
+        this.updateSources.add(o);
+    }
+
+    /**
+     * Recalculates the visibility and runs the callback if it has changed.
+     */
+    private void update() {
+        boolean v = computeVisible();
+        if (v != this.visible) {
+            this.visible = v;
+            this.callback.run();
+        }
+    }
+
+    /**
+     * Calculates the visibility of the node.
+     *
+     * @return A boolean.
+     */
+    private boolean computeVisible() {
+        Scene scene = this.node.getScene();
+        if (scene == null || scene.getWindow() == null
+                || !scene.getWindow().isShowing()) {
+            return false;
+        }
+        for (Node n = this.node; n != null; n = n.getParent()) {
+            if (!n.isVisible()) {
+                return false;
+            }
+        }
+        if (this.scrollPanes.isEmpty()) {
+            return true;
+        }
+        Bounds bounds = this.node.localToScene(this.node.getBoundsInLocal());
+        for (ScrollPane sp : this.scrollPanes) {
+            if (!bounds.intersects(viewportInScene(sp))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the viewport of a scroll pane in scene coordinates.  The
+     * viewport bounds of a {@code ScrollPane} give the size of the viewport
+     * and (negated) the offset of the content, so the viewport is mapped to
+     * the scene through the parent of the content.  If the scroll pane has
+     * no skin yet, its layout bounds are used instead.
+     *
+     * @param sp  the scroll pane.
+     *
+     * @return The bounds of the viewport.
+     */
+    private static Bounds viewportInScene(ScrollPane sp) {
+        Node content = sp.getContent();
+        if (content == null || content.getParent() == null
+                || content.getParent() == sp) {
+            return sp.localToScene(sp.getLayoutBounds());
+        }
+        Bounds vb = sp.getViewportBounds();
+        return content.getParent().localToScene(new BoundingBox(
+                -vb.getMinX(), -vb.getMinY(), vb.getWidth(),
+                vb.getHeight()));
+    }
+
+}
@@ -0,0 +1,561 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * ColumnarXYDataset.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+import org.jfree.data.xy.XYRangeInfo;
+
+/**
+ * An XY dataset that stores each series as a pair of {@code double[]}
+ * arrays, intended for large data that is read far more often than it is
+ * changed.
+ * <p>
+ * The bounds of each series are calculated once, when the series is added,
+ * so auto-ranging an axis does not iterate over the items.  When only the
+ * items in a range of x-values are required (which is the default for the
+ * range axis of an {@code XYPlot}), the bounds are found by scanning the
+ * y-values in that window, using a binary search to find the window when
+ * the x-values are sorted.</p>
+ * <p>
+ * The arrays are not copied, so they should not be modified after the
+ * series has been added to the dataset (add the series again to update
+ * it).</p>
+ * <p>
+ * The dataset should be updated on the JavaFX application thread (the
+ * thread that modifies the chart).  {@link #clone()} copies the list of
+ * series while holding the same lock as the updates, so a chart that
+ * displays the dataset can be copied and drawn on a background thread (as
+ * for asynchronous rendering in a {@code ChartCanvas}).  A series is never
+ * changed once it has been added, so the clone shares the series (and
+ * their arrays) with this dataset, and cloning takes the same time
+ * whatever the number of items.</p>
+ */
+public class ColumnarXYDataset extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, XYDomainInfo, XYRangeInfo,
+        PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2577513091717842099L;
+
+    /** The series in the dataset. */
+    private List<Column> series;
+
+    /** The lock that guards changes to the series. */
+    private transient Object lock;
+
+    /**
+     * Creates a new dataset, initially empty.
+     */
+    public ColumnarXYDataset() {
+        this.series = new ArrayList<>();
+        this.lock = new Object();
+    }
+
+    /**
+     * Adds a series to the dataset (or replaces the series with the same
+     * key) and sends a {@code DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, must have the same
+     *     length as {@code x}).
+     */
+    public void addSeries(Comparable seriesKey, double[] x, double[] y) {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have equal length.");
+        }
+        Column column = new Column(seriesKey, x, y);
+        synchronized (this.lock) {
+            int index = indexOf(seriesKey);
+            if (index < 0) {
+                this.series.add(column);
+            } else {
+                this.series.set(index, column);
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a
+     * {@code DatasetChangeEvent} to all registered listeners.  If there is
+     * no series with the specified key, this method does nothing.
+     *
+     * @param seriesKey  the series key ({@code null} not permitted).
+     */
+    public void removeSeries(Comparable seriesKey) {
+        Args.nullNotPermitted(seriesKey, "seriesKey");
+        int index = indexOf(seriesKey);
+        if (index >= 0) {
+            synchronized (this.lock) {
+                this.series.remove(index);
+            }
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the x-values for a series are in ascending
+     * order, and {@code false} otherwise.
+     *
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    public boolean isSorted(int series) {
+        return this.series.get(series).sorted;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.series.get(series).key;
+    }
+
+    @Override
+    public int indexOf(Comparable seriesKey) {
+        for (int i = 0; i < this.series.size(); i++) {
+            if (this.series.get(i).key.equals(seriesKey)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING} if the x-values in every series
+     * are sorted, and {@link DomainOrder#NONE} otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (Column column : this.series) {
+            if (!column.sorted) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return this.series.get(series).x.length;
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return this.series.get(series).x[item];
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series.get(series).x[item];
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return this.series.get(series).y[item];
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series.get(series).y[item];
+    }
+
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the bounds of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (Column column : this.series) {
+            result = Range.combine(result, column.domainBounds);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bounds of the x-values for the specified series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series.
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    @SuppressWarnings("rawtypes")  // the raw type is set by XYDomainInfo
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Range result = null;
+        for (Object key : (List<?>) visibleSeriesKeys) {
+            int s = indexOf((Comparable<?>) key);
+            if (s >= 0) {
+                result = Range.combine(result,
+                        this.series.get(s).domainBounds);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the bounds of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (Column column : this.series) {
+            result = Range.combine(result, column.rangeBounds);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bounds of the y-values for the items in the specified
+     * series that have x-values within {@code xRange}.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series.
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    @SuppressWarnings("rawtypes")  // the raw type is set by XYRangeInfo
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        for (Object key : (List<?>) visibleSeriesKeys) {
+            int s = indexOf((Comparable<?>) key);
+            if (s >= 0) {
+                result = Range.combine(result, getRangeBounds(s,
+                        xRange.getLowerBound(), xRange.getUpperBound()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bounds of the y-values for the items in a series that
+     * have x-values in the range {@code xLow} to {@code xHigh} (inclusive).
+     *
+     * @param series  the series index.
+     * @param xLow  the lowest x-value.
+     * @param xHigh  the highest x-value.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    public Range getRangeBounds(int series, double xLow, double xHigh) {
+        Column column = this.series.get(series);
+        Range domain = column.domainBounds;
+        if (domain == null || xHigh < domain.getLowerBound()
+                || xLow > domain.getUpperBound()) {
+            return null;
+        }
+        if (xLow <= domain.getLowerBound()
+                && xHigh >= domain.getUpperBound()) {
+            return column.rangeBounds;
+        }
+        double[] minMax;
+        if (column.sorted) {
+            int from = lowerIndex(column.x, xLow);
+            int to = upperIndex(column.x, xHigh);
+            minMax = minMax(column.y, from, to);
+        } else {
+            minMax = minMax(column.x, column.y, xLow, xHigh);
+        }
+        return minMax[0] <= minMax[1] ? new Range(minMax[0], minMax[1])
+                : null;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than or
+     * equal to {@code x} (the x-values must be sorted).
+     *
+     * @param xs  the x-values.
+     * @param x  the x-value.
+     *
+     * @return The index (in the range {@code 0} to {@code xs.length}).
+     */
+    private static int lowerIndex(double[] xs, double x) {
+        int low = 0;
+        int high = xs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xs[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index after the last item with an x-value less than or
+     * equal to {@code x} (the x-values must be sorted).
+     *
+     * @param xs  the x-values.
+     * @param x  the x-value.
+     *
+     * @return The index (in the range {@code 0} to {@code xs.length}).
+     */
+    private static int upperIndex(double[] xs, double x) {
+        int low = 0;
+        int high = xs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (xs[mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the minimum and maximum of the values in part of an array,
+     * ignoring {@code NaN} values.  The loop keeps four independent
+     * minimums and maximums so that the JIT compiler can overlap (and
+     * vectorize) the comparisons.
+     *
+     * @param values  the values.
+     * @param from  the index of the first value (inclusive).
+     * @param to  the index of the last value (exclusive).
+     *
+     * @return An array containing the minimum and maximum (the minimum is
+     *     greater than the maximum if there are no values).
+     */
+    static double[] minMax(double[] values, int from, int to) {
+        double min0 = Double.POSITIVE_INFINITY, min1 = min0, min2 = min0,
+                min3 = min0;
+        double max0 = Double.NEGATIVE_INFINITY, max1 = max0, max2 = max0,
+                max3 = max0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            double v0 = values[i];
+            double v1 = values[i + 1];
+            double v2 = values[i + 2];
+            double v3 = values[i + 3];
+            // NaN fails both comparisons and is skipped
+            min0 = v0 < min0 ? v0 : min0;
+            min1 = v1 < min1 ? v1 : min1;
+            min2 = v2 < min2 ? v2 : min2;
+            min3 = v3 < min3 ? v3 : min3;
+            max0 = v0 > max0 ? v0 : max0;
+            max1 = v1 > max1 ? v1 : max1;
+            max2 = v2 > max2 ? v2 : max2;
+            max3 = v3 > max3 ? v3 : max3;
+        }
+        for (; i < to; i++) {
+            double v = values[i];
+            min0 = v < min0 ? v : min0;
+            max0 = v > max0 ? v : max0;
+        }
+        return new double[] {Math.min(Math.min(min0, min1),
+                Math.min(min2, min3)), Math.max(Math.max(max0, max1),
+                Math.max(max2, max3))};
+    }
+
+    /**
+     * Returns the minimum and maximum of the y-values for the items with an
+     * x-value in the specified range, ignoring {@code NaN} values.
+     *
+     * @param xs  the x-values.
+     * @param ys  the y-values.
+     * @param xLow  the lowest x-value.
+     * @param xHigh  the highest x-value.
+     *
+     * @return An array containing the minimum and maximum (the minimum is
+     *     greater than the maximum if there are no values).
+     */
+    static double[] minMax(double[] xs, double[] ys, double xLow,
+            double xHigh) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            boolean inRange = x >= xLow && x <= xHigh;
+            min = inRange && y < min ? y : min;
+            max = inRange && y > max ? y : max;
+        }
+        return new double[] {min, max};
+    }
+
+    /**
+     * Returns a clone of the dataset.  The list of series is copied while
+     * holding the lock that guards changes to it, but the series themselves
+     * (which are never changed) are shared with this dataset.  The clone
+     * does not have the listeners registered with this dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        ColumnarXYDataset clone = (ColumnarXYDataset) super.clone();
+        synchronized (this.lock) {
+            clone.series = new ArrayList<>(this.series);
+        }
+        clone.lock = new Object();
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.lock = new Object();
+    }
+
+    /**
+     * The arrays and cached bounds for one series.
+     */
+    private static final class Column implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 4033899877104426380L;
+
+        /** The series key. */
+        final Comparable key;
+
+        /** The x-values. */
+        final double[] x;
+
+        /** The y-values. */
+        final double[] y;
+
+        /** Whether the x-values are in ascending order. */
+        final boolean sorted;
+
+        /** The bounds of the x-values ({@code null} if there are none). */
+        final Range domainBounds;
+
+        /** The bounds of the y-values ({@code null} if there are none). */
+        final Range rangeBounds;
+
+        /**
+         * Creates a new column and calculates its bounds.
+         *
+         * @param key  the series key.
+         * @param x  the x-values.
+         * @param y  the y-values.
+         */
+        Column(Comparable key, double[] x, double[] y) {
+            this.key = key;
+            this.x = x;
+            this.y = y;
+            boolean ascending = true;
+            for (int i = 1; i < x.length && ascending; i++) {
+                ascending = x[i - 1] <= x[i];
+            }
+            this.sorted = ascending;
+            double[] xMinMax = minMax(x, 0, x.length);
+            double[] yMinMax = minMax(y, 0, y.length);
+            this.domainBounds = xMinMax[0] <= xMinMax[1]
+                    ? new Range(xMinMax[0], xMinMax[1]) : null;
+            this.rangeBounds = yMinMax[0] <= yMinMax[1]
+                    ? new Range(yMinMax[0], yMinMax[1]) : null;
+        }
+
+    }
+
+}
@@ -0,0 +1,748 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * DecimatingXYDataset.java
+ * ------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.chart.fx.ChartCanvas;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+
+/**
+ * A dataset that presents a reduced view of another {@link XYDataset},
+ * keeping (for each series) no more than four items per pixel column of
+ * the data area:  the first, lowest, highest and last items that fall in
+ * the column.  A line drawn through the reduced items covers exactly the
+ * same pixels as a line drawn through the full series, but the cost of
+ * rendering depends on the width of the chart rather than on the number
+ * of items in the source dataset.
+ * <p>
+ * The reduction is made for a viewport (the visible range of x-values and
+ * the width of the data area in pixels) which is usually maintained
+ * automatically by {@link #install(ChartCanvas, XYPlot)}, so that the data
+ * is reduced again each time the chart is zoomed, panned or resized.  One
+ * item either side of the viewport is kept so that lines continue to the
+ * edge of the data area.</p>
+ * <p>
+ * Only series in ascending order of x-value can be reduced.  If the source
+ * dataset does not report {@link DomainOrder#ASCENDING} (for example an
+ * {@code XYSeries} that is not auto-sorted) the items are passed through
+ * unchanged.  The domain and range bounds reported by this dataset are
+ * always those of the full source data, so auto-ranging is not affected by
+ * the reduction.</p>
+ * <p>
+ * This class is intended to be used on the JavaFX application thread (the
+ * thread that modifies the chart).  A clone has its own copy of the
+ * reduced items (and of the source dataset, if it can be cloned), so a
+ * chart that displays the dataset can be copied and drawn on a background
+ * thread.</p>
+ */
+public class DecimatingXYDataset extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, XYDomainInfo,
+        DatasetChangeListener, PlotChangeListener, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6011994061735789152L;
+
+    /** The number of items kept per pixel column. */
+    private static final int ITEMS_PER_COLUMN = 4;
+
+    /** The source dataset. */
+    private XYDataset source;
+
+    /** The lower bound of the viewport. */
+    private double viewLower;
+
+    /** The upper bound of the viewport. */
+    private double viewUpper;
+
+    /** The width of the viewport in pixels (0 for no reduction). */
+    private int pixelWidth;
+
+    /** Whether the items are reduced (updated in {@link #decimate()}). */
+    private boolean decimating;
+
+    /** The reduced x-values for each series. */
+    private double[][] xValues;
+
+    /** The reduced y-values for each series. */
+    private double[][] yValues;
+
+    /** The number of reduced items for each series. */
+    private int[] itemCounts;
+
+    /** The domain bounds of the source data for each series. */
+    private Range[] domainBounds;
+
+    /** The range bounds of the source data for each series. */
+    private Range[] rangeBounds;
+
+    /** The canvas that the dataset is installed on (if any). */
+    private transient ChartCanvas canvas;
+
+    /** The plot that the dataset is installed on (if any). */
+    private transient XYPlot plot;
+
+    /** The domain axis that defines the viewport (if installed). */
+    private transient ValueAxis axis;
+
+    /** Updates the viewport when the canvas is resized. */
+    private transient InvalidationListener sizeListener;
+
+    /**
+     * Creates a new dataset that presents a reduced view of the specified
+     * source dataset.  Until a viewport is set, the items are passed
+     * through unchanged.
+     *
+     * @param source  the source dataset ({@code null} not permitted).
+     */
+    public DecimatingXYDataset(XYDataset source) {
+        Args.nullNotPermitted(source, "source");
+        this.source = source;
+        this.viewLower = Double.NaN;
+        this.viewUpper = Double.NaN;
+        this.xValues = new double[0][];
+        this.yValues = new double[0][];
+        this.itemCounts = new int[0];
+        this.source.addChangeListener(this);
+        updateBounds();
+        decimate();
+    }
+
+    /**
+     * Returns the source dataset.
+     *
+     * @return The source dataset (never {@code null}).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the lower bound of the viewport (or {@code Double.NaN} if no
+     * viewport has been set).
+     *
+     * @return The lower bound.
+     */
+    public double getViewportLowerBound() {
+        return this.viewLower;
+    }
+
+    /**
+     * Returns the upper bound of the viewport (or {@code Double.NaN} if no
+     * viewport has been set).
+     *
+     * @return The upper bound.
+     */
+    public double getViewportUpperBound() {
+        return this.viewUpper;
+    }
+
+    /**
+     * Returns the width of the viewport in pixels, or {@code 0} if the
+     * items are not being reduced.
+     *
+     * @return The width in pixels.
+     */
+    public int getPixelWidth() {
+        return this.pixelWidth;
+    }
+
+    /**
+     * Returns {@code true} if the items from the source dataset are
+     * currently being reduced, and {@code false} if they are passed
+     * through unchanged.
+     *
+     * @return A boolean.
+     */
+    public boolean isDecimating() {
+        return this.decimating;
+    }
+
+    /**
+     * Sets the viewport that the data is reduced for and sends a
+     * {@link DatasetChangeEvent} to all registered listeners if the
+     * viewport has changed.  A {@code pixelWidth} of zero switches off the
+     * reduction.
+     *
+     * @param lower  the lowest visible x-value.
+     * @param upper  the highest visible x-value.
+     * @param pixelWidth  the width of the data area in pixels (for a plot
+     *     with horizontal orientation, the height).
+     */
+    public void setViewport(double lower, double upper, int pixelWidth) {
+        if (pixelWidth < 0) {
+            throw new IllegalArgumentException("Requires pixelWidth >= 0.");
+        }
+        if (Double.compare(lower, this.viewLower) == 0
+                && Double.compare(upper, this.viewUpper) == 0
+                && pixelWidth == this.pixelWidth) {
+            return;
+        }
+        this.viewLower = lower;
+        this.viewUpper = upper;
+        this.pixelWidth = pixelWidth;
+        decimate();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Keeps the viewport for this dataset in step with the domain axis of
+     * the plot and the size of the canvas, so that the data is reduced
+     * again whenever the chart is zoomed, panned or resized.  The dataset
+     * should already have been added to the plot (and the plot should be
+     * displayed in the canvas).
+     *
+     * @param canvas  the canvas ({@code null} not permitted).
+     * @param plot  the plot ({@code null} not permitted).
+     */
+    public void install(ChartCanvas canvas, XYPlot plot) {
+        Args.nullNotPermitted(canvas, "canvas");
+        Args.nullNotPermitted(plot, "plot");
+        uninstall();
+        this.canvas = canvas;
+        this.plot = plot;
+        int index = plot.indexOf(this);
+        this.axis = index >= 0 ? plot.getDomainAxisForDataset(index)
+                : plot.getDomainAxis();
+        this.sizeListener = (Observable o) -> updateViewport();
+        canvas.widthProperty().addListener(this.sizeListener);
+        canvas.heightProperty().addListener(this.sizeListener);
+        plot.addChangeListener(this);
+        updateViewport();
+    }
+
+    /**
+     * Stops tracking the canvas and plot that were passed to
+     * {@link #install(ChartCanvas, XYPlot)}.  The current viewport is
+     * retained.
+     */
+    public void uninstall() {
+        if (this.canvas == null) {
+            return;
+        }
+        this.canvas.widthProperty().removeListener(this.sizeListener);
+        this.canvas.heightProperty().removeListener(this.sizeListener);
+        this.plot.removeChangeListener(this);
+        this.canvas = null;
+        this.plot = null;
+        this.axis = null;
+        this.sizeListener = null;
+    }
+
+    /**
+     * Updates the viewport from the domain axis range and the size of the
+     * data area.  Zooming and panning change the axis range and are seen
+     * here through the plot change events, as are the axis changes made
+     * by auto-ranging (which do not notify the axis listeners).
+     */
+    private void updateViewport() {
+        if (this.axis == null) {
+            return;
+        }
+        Range range = this.axis.getRange();
+        boolean vertical = this.plot.getOrientation()
+                == PlotOrientation.VERTICAL;
+        double extent = vertical ? this.canvas.getWidth()
+                : this.canvas.getHeight();
+        ChartRenderingInfo info = this.canvas.getRenderingInfo();
+        if (info != null) {
+            Rectangle2D chartArea = info.getChartArea();
+            Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+            if (!dataArea.isEmpty()) {
+                // the space used by axes, titles and legends is assumed to
+                // stay the same when the canvas is resized
+                extent -= vertical
+                        ? chartArea.getWidth() - dataArea.getWidth()
+                        : chartArea.getHeight() - dataArea.getHeight();
+            }
+        }
+        int pixels = extent >= 1.0 ? (int) Math.ceil(extent) : 0;
+        setViewport(range.getLowerBound(), range.getUpperBound(), pixels);
+    }
+
+    /**
+     * Recalculates the cached bounds of the source data.
+     */
+    private void updateBounds() {
+        int seriesCount = this.source.getSeriesCount();
+        this.domainBounds = new Range[seriesCount];
+        this.rangeBounds = new Range[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            double xMin = Double.POSITIVE_INFINITY;
+            double xMax = Double.NEGATIVE_INFINITY;
+            double yMin = Double.POSITIVE_INFINITY;
+            double yMax = Double.NEGATIVE_INFINITY;
+            int n = this.source.getItemCount(s);
+            for (int i = 0; i < n; i++) {
+                double x = this.source.getXValue(s, i);
+                double y = this.source.getYValue(s, i);
+                if (!Double.isNaN(x)) {
+                    xMin = Math.min(xMin, x);
+                    xMax = Math.max(xMax, x);
+                }
+                if (!Double.isNaN(y)) {
+                    yMin = Math.min(yMin, y);
+                    yMax = Math.max(yMax, y);
+                }
+            }
+            if (xMin <= xMax) {
+                this.domainBounds[s] = new Range(xMin, xMax);
+            }
+            if (yMin <= yMax) {
+                this.rangeBounds[s] = new Range(yMin, yMax);
+            }
+        }
+    }
+
+    /**
+     * Reduces the source data for the current viewport.  The arrays for
+     * the reduced items are reused where possible.
+     */
+    private void decimate() {
+        int seriesCount = this.source.getSeriesCount();
+        if (this.itemCounts.length != seriesCount) {
+            this.xValues = new double[seriesCount][];
+            this.yValues = new double[seriesCount][];
+            this.itemCounts = new int[seriesCount];
+        }
+        this.decimating = this.pixelWidth > 0
+                && this.viewLower < this.viewUpper
+                && this.source.getDomainOrder() == DomainOrder.ASCENDING;
+        if (!this.decimating) {
+            return;
+        }
+        for (int s = 0; s < seriesCount; s++) {
+            decimateSeries(s);
+        }
+    }
+
+    /**
+     * Reduces one series of the source data for the current viewport,
+     * keeping the first, lowest, highest and last items in each pixel
+     * column.
+     *
+     * @param series  the series index.
+     */
+    private void decimateSeries(int series) {
+        int n = this.source.getItemCount(series);
+        if (n == 0) {
+            this.itemCounts[series] = 0;
+            return;
+        }
+        // keep one item either side of the visible items
+        int first = Math.max(RendererUtils.findLiveItemsLowerBound(
+                this.source, series, this.viewLower, this.viewUpper) - 1, 0);
+        int last = Math.min(RendererUtils.findLiveItemsUpperBound(
+                this.source, series, this.viewLower, this.viewUpper) + 1,
+                n - 1);
+        int capacity = Math.min(last - first + 1,
+                ITEMS_PER_COLUMN * this.pixelWidth + 2);
+        double[] xs = this.xValues[series];
+        double[] ys = this.yValues[series];
+        if (xs == null || xs.length < capacity) {
+            xs = new double[capacity];
+            ys = new double[capacity];
+            this.xValues[series] = xs;
+            this.yValues[series] = ys;
+        }
+        int count = 0;
+        if (last - first + 1 <= capacity) {
+            // nothing to gain from reducing the items
+            for (int i = first; i <= last; i++) {
+                xs[count] = this.source.getXValue(series, i);
+                ys[count] = this.source.getYValue(series, i);
+                count++;
+            }
+            this.itemCounts[series] = count;
+            return;
+        }
+
+        xs[count] = this.source.getXValue(series, first);
+        ys[count] = this.source.getYValue(series, first);
+        count++;
+        double scale = this.pixelWidth / (this.viewUpper - this.viewLower);
+        int[] kept = new int[ITEMS_PER_COLUMN];
+        int column = -1;
+        int colFirst = -1, colLast = -1, colMin = -1, colMax = -1;
+        double yMin = 0.0, yMax = 0.0;
+        for (int i = first + 1; i < last; i++) {
+            double x = this.source.getXValue(series, i);
+            double y = this.source.getYValue(series, i);
+            int c = (int) ((x - this.viewLower) * scale);
+            c = Math.max(0, Math.min(this.pixelWidth - 1, c));
+            if (c != column || Double.isNaN(y)) {
+                count = addColumn(series, count, kept, colFirst, colMin,
+                        colMax, colLast);
+                column = -1;
+                colFirst = -1;
+                if (Double.isNaN(y)) {
+                    // keep the gap in the line
+                    ensureCapacity(series, count + 1);
+                    this.xValues[series][count] = x;
+                    this.yValues[series][count] = y;
+                    count++;
+                    continue;
+                }
+                column = c;
+                colFirst = i;
+                colMin = i;
+                colMax = i;
+                yMin = y;
+                yMax = y;
+            } else if (y < yMin) {
+                colMin = i;
+                yMin = y;
+            } else if (y > yMax) {
+                colMax = i;
+                yMax = y;
+            }
+            colLast = i;
+        }
+        if (column >= 0) {
+            count = addColumn(series, count, kept, colFirst, colMin, colMax,
+                    colLast);
+        }
+        ensureCapacity(series, count + 1);
+        this.xValues[series][count] = this.source.getXValue(series, last);
+        this.yValues[series][count] = this.source.getYValue(series, last);
+        count++;
+        this.itemCounts[series] = count;
+    }
+
+    /**
+     * Grows the arrays for the reduced items of a series, if necessary.
+     * The arrays are sized for four items per column, so this is only
+     * needed when gaps (items with a {@code NaN} y-value) split columns.
+     *
+     * @param series  the series index.
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int series, int capacity) {
+        int length = this.xValues[series].length;
+        if (length < capacity) {
+            int newLength = Math.max(capacity, 2 * length);
+            this.xValues[series] = Arrays.copyOf(this.xValues[series],
+                    newLength);
+            this.yValues[series] = Arrays.copyOf(this.yValues[series],
+                    newLength);
+        }
+    }
+
+    /**
+     * Adds the items kept for one pixel column to the reduced data for a
+     * series, in their original order and without duplicates.
+     *
+     * @param series  the series index.
+     * @param count  the number of reduced items so far.
+     * @param kept  a work array.
+     * @param colFirst  the index of the first item in the column (or
+     *     {@code -1} if the column is empty).
+     * @param colMin  the index of the lowest item.
+     * @param colMax  the index of the highest item.
+     * @param colLast  the index of the last item.
+     *
+     * @return The new number of reduced items.
+     */
+    private int addColumn(int series, int count, int[] kept, int colFirst,
+            int colMin, int colMax, int colLast) {
+        if (colFirst < 0) {
+            return count;
+        }
+        ensureCapacity(series, count + ITEMS_PER_COLUMN);
+        kept[0] = colFirst;
+        kept[1] = Math.min(colMin, colMax);
+        kept[2] = Math.max(colMin, colMax);
+        kept[3] = colLast;
+        double[] xs = this.xValues[series];
+        double[] ys = this.yValues[series];
+        int previous = -1;
+        for (int index : kept) {
+            if (index != previous) {
+                xs[count] = this.source.getXValue(series, index);
+                ys[count] = this.source.getYValue(series, index);
+                count++;
+                previous = index;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the domain order of the source dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items in a series (after reduction).
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        if (!this.decimating) {
+            return this.source.getItemCount(series);
+        }
+        return this.itemCounts[series];
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        if (!this.decimating) {
+            return this.source.getX(series, item);
+        }
+        return this.xValues[series][item];
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        if (!this.decimating) {
+            return this.source.getXValue(series, item);
+        }
+        return this.xValues[series][item];
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        if (!this.decimating) {
+            return this.source.getY(series, item);
+        }
+        return this.yValues[series][item];
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        if (!this.decimating) {
+            return this.source.getYValue(series, item);
+        }
+        return this.yValues[series][item];
+    }
+
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the domain bounds of the source data.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (Range r : this.domainBounds) {
+            result = Range.combine(result, r);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the domain bounds of the source data for the specified series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series.
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    @SuppressWarnings("rawtypes")  // the raw type is set by XYDomainInfo
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Range result = null;
+        for (Object key : (List<?>) visibleSeriesKeys) {
+            int s = indexOf((Comparable<?>) key);
+            if (s >= 0 && s < this.domainBounds.length) {
+                result = Range.combine(result, this.domainBounds[s]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range bounds of the source data.  Note that when the
+     * renderer includes only the visible range of x-values in its bounds,
+     * the bounds are found by iterating over the reduced items instead,
+     * which gives the same result because the lowest and highest items in
+     * every pixel column are kept.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (Range r : this.rangeBounds) {
+            result = Range.combine(result, r);
+        }
+        return result;
+    }
+
+    /**
+     * Receives notification of a change to the source dataset, reduces
+     * the data again and passes the event on to the listeners for this
+     * dataset.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        updateBounds();
+        decimate();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Receives notification of a change to the plot that the dataset is
+     * installed on, and updates the viewport if the domain axis range has
+     * changed.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void plotChanged(PlotChangeEvent event) {
+        updateViewport();
+    }
+
+    /**
+     * Returns a clone of the dataset, with copies of the reduced items and
+     * the current viewport.  The clone is not installed on a canvas.  If
+     * the source dataset implements {@link PublicCloneable} the clone has
+     * its own copy of it, otherwise the source is shared and the clone
+     * does not follow changes to it.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DecimatingXYDataset clone = (DecimatingXYDataset) super.clone();
+        clone.xValues = new double[this.xValues.length][];
+        clone.yValues = new double[this.yValues.length][];
+        for (int s = 0; s < this.xValues.length; s++) {
+            if (this.xValues[s] != null) {
+                clone.xValues[s] = this.xValues[s].clone();
+                clone.yValues[s] = this.yValues[s].clone();
+            }
+        }
+        clone.itemCounts = this.itemCounts.clone();
+        clone.domainBounds = this.domainBounds.clone();
+        clone.rangeBounds = this.rangeBounds.clone();
+        clone.canvas = null;
+        clone.plot = null;
+        clone.axis = null;
+        clone.sizeListener = null;
+        if (this.source instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.source;
+            clone.source = (XYDataset) pc.clone();
+            clone.source.addChangeListener(clone);
+        }
+        return clone;
+    }
+
+}
@@ -0,0 +1,568 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * StreamingXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDomainInfo;
+
+/**
+ * An XY dataset for live data that keeps the most recent items of each
+ * series in fixed-capacity ring buffers of primitive {@code double} values.
+ * When a series is full, appending an item discards the oldest one, so the
+ * memory used by the dataset does not grow and appending does not create
+ * any garbage.
+ * <p>
+ * Items can be appended from any thread.  They are staged and then
+ * published to the dataset on the JavaFX application thread, at most once
+ * per pulse, with a single {@code DatasetChangeEvent} for all the items
+ * appended since the previous pulse.  A chart that displays the dataset is
+ * therefore updated once per frame however fast the data arrives.  All
+ * other methods (including the methods of the {@code XYDataset} interface)
+ * should be called on the JavaFX application thread, apart from
+ * {@link #clone()}, which copies the items while holding the same lock as
+ * the publication and can be called from any thread.  A chart that displays
+ * the dataset can therefore be copied and drawn on a background thread (as
+ * for asynchronous rendering in a {@code ChartCanvas}) while new items
+ * continue to be published to the original.</p>
+ * <p>
+ * If the JavaFX toolkit is not running (for example when a chart is
+ * rendered to an image in a batch process), the staged items are only
+ * published when {@link #publish()} is called.</p>
+ */
+public class StreamingXYDataset extends AbstractXYDataset
+        implements DomainInfo, XYDomainInfo, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1745272195016607040L;
+
+    /** The series keys. */
+    private final Comparable[] seriesKeys;
+
+    /** The maximum number of items in each series. */
+    private final int capacity;
+
+    /** The published x-values (ring buffers). */
+    private double[][] xValues;
+
+    /** The published y-values (ring buffers). */
+    private double[][] yValues;
+
+    /** The index of the oldest published item for each series. */
+    private int[] start;
+
+    /** The number of published items for each series. */
+    private int[] count;
+
+    /**
+     * The lock that guards the staged items and the publication of the
+     * items.
+     */
+    private transient Object lock;
+
+    /** The staged x-values (ring buffers). */
+    private double[][] stagedX;
+
+    /** The staged y-values (ring buffers). */
+    private double[][] stagedY;
+
+    /** The index of the oldest staged item for each series. */
+    private int[] stagedStart;
+
+    /** The number of staged items for each series. */
+    private int[] stagedCount;
+
+    /** The last x-value appended to each series. */
+    private double[] lastX;
+
+    /** Whether the x-values of all series have been appended in order. */
+    private boolean ascending;
+
+    /** The value of {@code ascending} when the items were last published. */
+    private boolean publishedAscending;
+
+    /** Set while a publication is scheduled for the next pulse. */
+    private transient AtomicBoolean publishScheduled;
+
+    /** The timer that publishes the staged items on the next pulse. */
+    private transient AnimationTimer publishTimer;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param capacity  the maximum number of items in each series (must be
+     *     positive).
+     * @param seriesKeys  the series keys ({@code null} not permitted).
+     */
+    public StreamingXYDataset(int capacity, Comparable... seriesKeys) {
+        Args.nullNotPermitted(seriesKeys, "seriesKeys");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Requires capacity > 0.");
+        }
+        int seriesCount = seriesKeys.length;
+        this.seriesKeys = seriesKeys.clone();
+        this.capacity = capacity;
+        this.xValues = new double[seriesCount][capacity];
+        this.yValues = new double[seriesCount][capacity];
+        this.start = new int[seriesCount];
+        this.count = new int[seriesCount];
+        this.lock = new Object();
+        this.stagedX = new double[seriesCount][capacity];
+        this.stagedY = new double[seriesCount][capacity];
+        this.stagedStart = new int[seriesCount];
+        this.stagedCount = new int[seriesCount];
+        this.lastX = new double[seriesCount];
+        Arrays.fill(this.lastX, Double.NEGATIVE_INFINITY);
+        this.ascending = true;
+        this.publishedAscending = true;
+        this.publishScheduled = new AtomicBoolean();
+    }
+
+    /**
+     * Returns the maximum number of items in each series.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Appends an item to a series.  This method can be called from any
+     * thread, the item is published on the next JavaFX pulse.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void append(int series, double x, double y) {
+        synchronized (this.lock) {
+            stage(series, x, y);
+        }
+        schedulePublish();
+    }
+
+    /**
+     * Appends items to a series.  This method can be called from any
+     * thread, the items are published on the next JavaFX pulse.
+     *
+     * @param series  the series index.
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted).
+     * @param offset  the index of the first item in the arrays.
+     * @param length  the number of items to append.
+     */
+    public void append(int series, double[] x, double[] y, int offset,
+            int length) {
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (offset < 0 || length < 0 || offset + length > x.length
+                || offset + length > y.length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length.");
+        }
+        synchronized (this.lock) {
+            // only the last 'capacity' items can survive
+            int first = offset + Math.max(0, length - this.capacity);
+            for (int i = first; i < offset + length; i++) {
+                stage(series, x[i], y[i]);
+            }
+        }
+        schedulePublish();
+    }
+
+    /**
+     * Appends items to a series.  This method can be called from any
+     * thread, the items are published on the next JavaFX pulse.
+     *
+     * @param series  the series index.
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted).
+     */
+    public void append(int series, double[] x, double[] y) {
+        Args.nullNotPermitted(x, "x");
+        append(series, x, y, 0, x.length);
+    }
+
+    /**
+     * Adds an item to the staging buffer for a series (the caller must
+     * hold the lock).
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void stage(int series, double x, double y) {
+        int n = this.stagedCount[series];
+        int index = this.stagedStart[series] + n;
+        if (index >= this.capacity) {
+            index -= this.capacity;
+        }
+        this.stagedX[series][index] = x;
+        this.stagedY[series][index] = y;
+        if (n < this.capacity) {
+            this.stagedCount[series] = n + 1;
+        } else {
+            // the oldest staged item would be discarded anyway
+            this.stagedStart[series] = index + 1 < this.capacity
+                    ? index + 1 : 0;
+        }
+        if (x < this.lastX[series]) {
+            this.ascending = false;
+        }
+        this.lastX[series] = x;
+    }
+
+    /**
+     * Schedules the publication of the staged items on the next JavaFX
+     * pulse, unless it is already scheduled.
+     */
+    private void schedulePublish() {
+        if (!this.publishScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Platform.runLater(() -> {
+                if (this.publishTimer == null) {
+                    this.publishTimer = new AnimationTimer() {
+                        @Override
+                        public void handle(long now) {
+                            stop();
+                            publish();
+                        }
+                    };
+                }
+                this.publishTimer.start();
+            });
+        } catch (IllegalStateException e) {
+            // the JavaFX toolkit is not running, the items stay staged
+            // until publish() is called
+            this.publishScheduled.set(false);
+        }
+    }
+
+    /**
+     * Moves the staged items into the dataset and, if there were any, sends
+     * a {@code DatasetChangeEvent} to all registered listeners.  This is
+     * called automatically on each JavaFX pulse after items are appended,
+     * but it can also be called directly (on the thread that owns the
+     * chart) to publish the items immediately.
+     */
+    public void publish() {
+        this.publishScheduled.set(false);
+        boolean changed = false;
+        synchronized (this.lock) {
+            for (int s = 0; s < this.seriesKeys.length; s++) {
+                int n = this.stagedCount[s];
+                if (n == 0) {
+                    continue;
+                }
+                changed = true;
+                int from = this.stagedStart[s];
+                for (int i = 0; i < n; i++) {
+                    add(s, this.stagedX[s][from], this.stagedY[s][from]);
+                    if (++from == this.capacity) {
+                        from = 0;
+                    }
+                }
+                this.stagedStart[s] = 0;
+                this.stagedCount[s] = 0;
+            }
+            this.publishedAscending = this.ascending;
+        }
+        if (changed) {
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Adds an item to the published ring buffer for a series, discarding
+     * the oldest item if the series is full.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void add(int series, double x, double y) {
+        int n = this.count[series];
+        int index = this.start[series] + n;
+        if (index >= this.capacity) {
+            index -= this.capacity;
+        }
+        this.xValues[series][index] = x;
+        this.yValues[series][index] = y;
+        if (n < this.capacity) {
+            this.count[series] = n + 1;
+        } else {
+            this.start[series] = index + 1 < this.capacity ? index + 1 : 0;
+        }
+    }
+
+    /**
+     * Removes all items (published and staged) from the dataset and sends a
+     * {@code DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        synchronized (this.lock) {
+            for (int s = 0; s < this.seriesKeys.length; s++) {
+                this.start[s] = 0;
+                this.count[s] = 0;
+                this.stagedStart[s] = 0;
+                this.stagedCount[s] = 0;
+                this.lastX[s] = Double.NEGATIVE_INFINITY;
+            }
+            this.ascending = true;
+            this.publishedAscending = true;
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index in the ring buffers for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The buffer index.
+     */
+    private int bufferIndex(int series, int item) {
+        int index = this.start[series] + item;
+        return index < this.capacity ? index : index - this.capacity;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.length;
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.seriesKeys[series];
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING} if the items in every series
+     * have been appended in order of x-value, and {@link DomainOrder#NONE}
+     * otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.publishedAscending ? DomainOrder.ASCENDING
+                : DomainOrder.NONE;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return this.count[series];
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return this.xValues[series][bufferIndex(series, item)];
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return this.yValues[series][bufferIndex(series, item)];
+    }
+
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the domain bounds for the dataset.  When the items are in
+     * ascending order the bounds are found without iterating over the
+     * items.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.seriesKeys.length; s++) {
+            result = Range.combine(result, findDomainBounds(s));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the domain bounds for the specified series.
+     *
+     * @param visibleSeriesKeys  the keys for the visible series.
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    @Override
+    @SuppressWarnings("rawtypes")  // the raw type is set by XYDomainInfo
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        Range result = null;
+        for (Object key : (List<?>) visibleSeriesKeys) {
+            int s = indexOf((Comparable<?>) key);
+            if (s >= 0) {
+                result = Range.combine(result, findDomainBounds(s));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the domain bounds for one series.
+     *
+     * @param series  the series index.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    private Range findDomainBounds(int series) {
+        int n = this.count[series];
+        if (n == 0) {
+            return null;
+        }
+        if (this.publishedAscending) {
+            return new Range(getXValue(series, 0), getXValue(series, n - 1));
+        }
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double x = getXValue(series, i);
+            if (!Double.isNaN(x)) {
+                min = Math.min(min, x);
+                max = Math.max(max, x);
+            }
+        }
+        return min <= max ? new Range(min, max) : null;
+    }
+
+    /**
+     * Returns a clone of the dataset, with copies of the published and
+     * staged items.  The items are copied while holding the lock that
+     * guards their publication, so this method can be called from any
+     * thread.  The clone does not have the listeners registered with this
+     * dataset, and items appended to the clone must be published by
+     * calling {@link #publish()}.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        StreamingXYDataset clone = (StreamingXYDataset) super.clone();
+        synchronized (this.lock) {
+            clone.xValues = copyOf(this.xValues);
+            clone.yValues = copyOf(this.yValues);
+            clone.start = this.start.clone();
+            clone.count = this.count.clone();
+            clone.stagedX = copyOf(this.stagedX);
+            clone.stagedY = copyOf(this.stagedY);
+            clone.stagedStart = this.stagedStart.clone();
+            clone.stagedCount = this.stagedCount.clone();
+            clone.lastX = this.lastX.clone();
+            clone.ascending = this.ascending;
+            clone.publishedAscending = this.publishedAscending;
+        }
+        clone.lock = new Object();
+        clone.publishScheduled = new AtomicBoolean();
+        clone.publishTimer = null;
+        return clone;
+    }
+
+    /**
+     * Returns a deep copy of an array of arrays.
+     *
+     * @param arrays  the arrays.
+     *
+     * @return The copy.
+     */
+    private static double[][] copyOf(double[][] arrays) {
+        double[][] result = new double[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            result[i] = arrays[i].clone();
+        }
+        return result;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.lock = new Object();
+        this.publishScheduled = new AtomicBoolean();
+    }
+
+}
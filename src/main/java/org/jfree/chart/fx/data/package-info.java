@@ -0,0 +1,5 @@
+/**
+ * Contains dataset classes that are tuned for large and live data in
+ * JavaFX charts.
+ */
+package org.jfree.chart.fx.data;
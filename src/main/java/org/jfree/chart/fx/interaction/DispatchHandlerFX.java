@@ -38,7 +38,6 @@ package org.jfree.chart.fx.interaction;
 
 import java.awt.geom.Point2D;
 import javafx.scene.input.MouseEvent;
-import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.fx.ChartCanvas;
 import org.jfree.chart.fx.ChartViewer;
 
@@ -84,16 +83,10 @@ public class DispatchHandlerFX extends AbstractMouseHandlerFX {
      */
     @Override
     public void handleMouseMoved(ChartCanvas canvas, MouseEvent e) {
-    	if (canvas.getChart() == null) {
+    	if (canvas.getChart() == null || !canvas.hasChartMouseListeners()) {
     		return; // do nothing
     	}
-        double x = e.getX();
-        double y = e.getY();
-        ChartEntity entity = canvas.getRenderingInfo().getEntityCollection().getEntity(x, y);
-        ChartMouseEventFX event = new ChartMouseEventFX(canvas.getChart(), e, entity);
-        for (ChartMouseListenerFX listener : canvas.getChartMouseListeners()) {
-            listener.chartMouseMoved(event);
-        }
+        canvas.fireChartMouseMoved(canvas.getChartMouseEvent(e));
      }
 
     /**
@@ -106,16 +99,11 @@ public class DispatchHandlerFX extends AbstractMouseHandlerFX {
      */
     @Override
     public void handleMouseClicked(ChartCanvas canvas, MouseEvent e) {
-        if (this.mousePressedPoint == null || canvas.getChart() == null) {
+        if (this.mousePressedPoint == null || canvas.getChart() == null
+                || !canvas.hasChartMouseListeners()) {
             return;
         }
-        double x = e.getX();
-        double y = e.getY();
-        ChartEntity entity = canvas.getRenderingInfo().getEntityCollection().getEntity(x, y);
-        ChartMouseEventFX event = new ChartMouseEventFX(canvas.getChart(), e, entity);
-        for (ChartMouseListenerFX listener : canvas.getChartMouseListeners()) {
-            listener.chartMouseClicked(event);
-        }
+        canvas.fireChartMouseClicked(canvas.getChartMouseEvent(e));
     }
     
 }
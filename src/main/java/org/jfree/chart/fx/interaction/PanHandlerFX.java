@@ -38,7 +38,10 @@ package org.jfree.chart.fx.interaction;
 
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import javafx.animation.PauseTransition;
+import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
+import javafx.util.Duration;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.fx.ChartCanvas;
 import org.jfree.chart.plot.Pannable;
@@ -49,6 +52,11 @@ import org.jfree.chart.plot.PlotRenderingInfo;
  * Handles panning of charts on a {@link ChartCanvas}.  This handler
  * should be configured with the required modifier keys and installed as a
  * live handler (not an auxiliary handler).
+ * <p>
+ * In bitmap panning mode (see {@link #setBitmapPanning(boolean)}) the 
+ * handler captures the data area when the pan starts and moves that image 
+ * during the drag, the axes are only updated (and the chart redrawn) when the
+ * mouse is released or the drag pauses.</p>
  */
 public class PanHandlerFX extends AbstractMouseHandlerFX {
 
@@ -57,6 +65,33 @@ public class PanHandlerFX extends AbstractMouseHandlerFX {
  
     private double panW;
     private double panH;
+
+    /** A flag that controls whether bitmap panning is used. */
+    private boolean bitmapPanning;
+
+    /** 
+     * The delay (in milliseconds) after the last drag event before a 
+     * bitmap pan is applied to the axes.
+     */
+    private long pauseDelay;
+
+    /** The data area image for a bitmap pan (null if not panning). */
+    private Image panImage;
+
+    /** The data area for a bitmap pan. */
+    private Rectangle2D panArea;
+
+    /** The mouse location at the start of a bitmap pan. */
+    private Point2D panStart;
+
+    /** The accumulated x-offset (in Java2D units) for a bitmap pan. */
+    private double panOffsetX;
+
+    /** The accumulated y-offset (in Java2D units) for a bitmap pan. */
+    private double panOffsetY;
+
+    /** The timer that detects a pause in a bitmap pan. */
+    private PauseTransition pauseTimer;
     
     /**
      * Creates a new instance that requires no modifier keys.
@@ -80,6 +115,51 @@ public class PanHandlerFX extends AbstractMouseHandlerFX {
     public PanHandlerFX(String id, boolean altKey, boolean ctrlKey, 
             boolean metaKey, boolean shiftKey) {
         super(id, altKey, ctrlKey, metaKey, shiftKey);
+        this.bitmapPanning = false;
+        this.pauseDelay = 250L;
+    }
+
+    /**
+     * Returns the flag that controls whether or not bitmap panning is used.
+     * The default value is {@code false}.
+     * 
+     * @return A boolean.
+     */
+    public boolean isBitmapPanning() {
+        return this.bitmapPanning;
+    }
+
+    /**
+     * Sets the flag that controls whether or not bitmap panning is used.  In
+     * this mode the current data area pixels are captured when the pan 
+     * starts and the image is moved during the drag (the exposed strip is 
+     * filled with the plot background), and the axes are updated with a 
+     * single full render when the mouse is released or the drag pauses.
+     * 
+     * @param bitmapPanning  the new flag value.
+     */
+    public void setBitmapPanning(boolean bitmapPanning) {
+        this.bitmapPanning = bitmapPanning;
+    }
+
+    /**
+     * Returns the delay (in milliseconds) after the last drag event before a
+     * bitmap pan is applied to the axes.  The default value is 250.
+     * 
+     * @return The delay.
+     */
+    public long getPauseDelay() {
+        return this.pauseDelay;
+    }
+
+    /**
+     * Sets the delay (in milliseconds) after the last drag event before a
+     * bitmap pan is applied to the axes (and the chart redrawn).
+     * 
+     * @param millis  the delay.
+     */
+    public void setPauseDelay(long millis) {
+        this.pauseDelay = millis;
     }
     
     /**
@@ -108,6 +188,9 @@ public class PanHandlerFX extends AbstractMouseHandlerFX {
                 this.panH = dataArea.getHeight();
                 this.panLast = point;
                 canvas.setCursor(javafx.scene.Cursor.MOVE);
+                if (this.bitmapPanning) {
+                    startBitmapPan(canvas, dataArea, point);
+                }
             }
         }
         // the actual panning occurs later in the mouseDragged() method
@@ -137,6 +220,11 @@ public class PanHandlerFX extends AbstractMouseHandlerFX {
         if (dx == 0.0 && dy == 0.0) {
             return;
         }
+        if (this.panImage != null) {
+            dragBitmapPan(canvas, dx, dy);
+            this.panLast = new Point2D.Double(e.getX(), e.getY());
+            return;
+        }
         double wPercent = -dx / this.panW;
         double hPercent = dy / this.panH;
         boolean old = chart.getPlot().isNotify();
@@ -162,8 +250,107 @@ public class PanHandlerFX extends AbstractMouseHandlerFX {
         if (this.panLast != null) {
             canvas.setCursor(javafx.scene.Cursor.DEFAULT);
         }
+        if (this.panImage != null) {
+            this.pauseTimer.stop();
+            applyBitmapPan(canvas);
+            this.panImage = null;
+            canvas.endPreview();
+        }
         this.panLast = null;
         canvas.clearLiveHandler();
     }
 
+    /**
+     * Starts a bitmap pan by capturing the data area of the canvas.
+     * 
+     * @param canvas  the canvas.
+     * @param dataArea  the data area.
+     * @param point  the mouse location.
+     */
+    private void startBitmapPan(ChartCanvas canvas, Rectangle2D dataArea, 
+            Point2D point) {
+        this.panImage = canvas.captureArea(dataArea);
+        this.panArea = dataArea;
+        this.panStart = point;
+        this.panOffsetX = 0.0;
+        this.panOffsetY = 0.0;
+        if (this.pauseTimer == null) {
+            this.pauseTimer = new PauseTransition();
+        }
+        this.pauseTimer.setDuration(Duration.millis(this.pauseDelay));
+        this.pauseTimer.setOnFinished(event -> handlePause(canvas));
+        canvas.beginPreview();
+    }
+
+    /**
+     * Moves the bitmap for a bitmap pan and restarts the pause timer.  The
+     * offsets are only accumulated in the directions that are pannable.
+     * 
+     * @param canvas  the canvas.
+     * @param dx  the change in the x-coordinate.
+     * @param dy  the change in the y-coordinate.
+     */
+    private void dragBitmapPan(ChartCanvas canvas, double dx, double dy) {
+        Pannable p = (Pannable) canvas.getChart().getPlot();
+        boolean vertical = p.getOrientation().isVertical();
+        if (vertical ? p.isDomainPannable() : p.isRangePannable()) {
+            this.panOffsetX += dx;
+        }
+        if (vertical ? p.isRangePannable() : p.isDomainPannable()) {
+            this.panOffsetY += dy;
+        }
+        canvas.drawPreview(this.panImage, this.panArea, 
+                this.panArea.getX() + this.panOffsetX, 
+                this.panArea.getY() + this.panOffsetY, 
+                this.panArea.getWidth(), this.panArea.getHeight());
+        this.pauseTimer.playFromStart();
+    }
+
+    /**
+     * Handles a pause in a bitmap pan by applying the pan to the axes, 
+     * redrawing the chart and capturing a new image to continue the drag.
+     * 
+     * @param canvas  the canvas.
+     */
+    private void handlePause(ChartCanvas canvas) {
+        if (this.panImage == null) {
+            return;
+        }
+        applyBitmapPan(canvas);
+        canvas.endPreview();
+        canvas.flush();
+        this.panImage = canvas.captureArea(this.panArea);
+        this.panOffsetX = 0.0;
+        this.panOffsetY = 0.0;
+        canvas.beginPreview();
+    }
+
+    /**
+     * Applies the accumulated offset of a bitmap pan to the axes.
+     * 
+     * @param canvas  the canvas.
+     */
+    private void applyBitmapPan(ChartCanvas canvas) {
+        JFreeChart chart = canvas.getChart();
+        if (chart == null 
+                || (this.panOffsetX == 0.0 && this.panOffsetY == 0.0)) {
+            return;
+        }
+        double wPercent = -this.panOffsetX / this.panW;
+        double hPercent = this.panOffsetY / this.panH;
+        boolean old = chart.getPlot().isNotify();
+        chart.getPlot().setNotify(false);
+        Pannable p = (Pannable) chart.getPlot();
+        PlotRenderingInfo info = canvas.getRenderingInfo().getPlotInfo();
+        if (p.getOrientation().isVertical()) {
+            p.panDomainAxes(wPercent, info, this.panStart);
+            p.panRangeAxes(hPercent, info, this.panStart);
+        }
+        else {
+            p.panDomainAxes(hPercent, info, this.panStart);
+            p.panRangeAxes(wPercent, info, this.panStart);
+        }
+        chart.getPlot().setNotify(old);
+    }
+
 }
@@ -37,7 +37,11 @@
 package org.jfree.chart.fx.interaction;
 
 import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import javafx.animation.PauseTransition;
+import javafx.scene.image.Image;
 import javafx.scene.input.ScrollEvent;
+import javafx.util.Duration;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.fx.ChartCanvas;
@@ -48,12 +52,44 @@ import org.jfree.chart.plot.Zoomable;
 
 /**
  * Handles scroll events (mouse wheel etc) on a {@link ChartCanvas}.
+ * <p>
+ * In preview mode (see {@link #setPreviewEnabled(boolean)}) a burst of 
+ * scroll events scales an image of the data area around the mouse pointer,
+ * and the accumulated zoom is applied to the axes (with a single redraw) 
+ * once the burst settles.</p>
  */
 public class ScrollHandlerFX extends AbstractMouseHandlerFX 
         implements MouseHandlerFX {
 
     /** The zoom factor. */
     private double zoomFactor = 0.1;
+
+    /** A flag that controls whether zooming is previewed with a bitmap. */
+    private boolean previewEnabled;
+
+    /** 
+     * The delay (in milliseconds) after the last scroll event before the 
+     * previewed zoom is applied to the axes.
+     */
+    private long settleDelay;
+
+    /** The data area image for the preview (null if not previewing). */
+    private Image previewImage;
+
+    /** The data area for the preview. */
+    private Rectangle2D previewArea;
+
+    /** The plot info for the preview. */
+    private PlotRenderingInfo previewInfo;
+
+    /** The zoom anchor point for the preview. */
+    private Point2D previewAnchor;
+
+    /** The accumulated zoom factor for the preview. */
+    private double previewZoom;
+
+    /** The timer that detects the end of a burst of scroll events. */
+    private PauseTransition settleTimer;
     
     /**
      * Creates a new instance with the specified ID.
@@ -63,6 +99,8 @@ public class ScrollHandlerFX extends AbstractMouseHandlerFX
     public ScrollHandlerFX(String id) {
         super(id, false, false, false, false);
         this.zoomFactor = 0.1;
+        this.previewEnabled = false;
+        this.settleDelay = 150L;
     }
 
     /**
@@ -84,6 +122,49 @@ public class ScrollHandlerFX extends AbstractMouseHandlerFX
         this.zoomFactor = zoomFactor;
     }
     
+    /**
+     * Returns the flag that controls whether or not wheel zooming is 
+     * previewed with a scaled bitmap.  The default value is {@code false}.
+     * 
+     * @return A boolean.
+     */
+    public boolean isPreviewEnabled() {
+        return this.previewEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not wheel zooming is previewed
+     * with a scaled bitmap.  When enabled, a burst of scroll events scales
+     * the last rendered image of the data area around the mouse pointer and
+     * accumulates the zoom factors, then a single zoom (and redraw) is 
+     * applied once no scroll event has been received for the settle delay.
+     * 
+     * @param enabled  the new flag value.
+     */
+    public void setPreviewEnabled(boolean enabled) {
+        this.previewEnabled = enabled;
+    }
+
+    /**
+     * Returns the delay (in milliseconds) after the last scroll event before
+     * a previewed zoom is applied.  The default value is 150.
+     * 
+     * @return The delay.
+     */
+    public long getSettleDelay() {
+        return this.settleDelay;
+    }
+
+    /**
+     * Sets the delay (in milliseconds) after the last scroll event before a
+     * previewed zoom is applied.
+     * 
+     * @param millis  the delay.
+     */
+    public void setSettleDelay(long millis) {
+        this.settleDelay = millis;
+    }
+
     @Override
     public void handleScroll(ChartCanvas canvas, ScrollEvent e) {
         JFreeChart chart = canvas.getChart();
@@ -118,6 +199,10 @@ public class ScrollHandlerFX extends AbstractMouseHandlerFX
         PlotRenderingInfo pinfo = info.getPlotInfo();
         Point2D p = new Point2D.Double(e.getX(), e.getY());
         if (pinfo.getDataArea().contains(p)) {
+            if (this.previewEnabled) {
+                handlePreview(canvas, zoomable, pinfo, p, e);
+                return;
+            }
             Plot plot = (Plot) zoomable;
             // do not notify while zooming each axis
             boolean notifyState = plot.isNotify();
@@ -137,4 +222,78 @@ public class ScrollHandlerFX extends AbstractMouseHandlerFX
         } 
     }
 
+    /**
+     * Handles a scroll event in preview mode by accumulating the zoom 
+     * factor and drawing the scaled data area image.
+     * 
+     * @param canvas  the chart canvas.
+     * @param zoomable  the zoomable plot.
+     * @param pinfo  the plot rendering info.
+     * @param p  the mouse location.
+     * @param e  the scroll event.
+     */
+    private void handlePreview(ChartCanvas canvas, Zoomable zoomable, 
+            PlotRenderingInfo pinfo, Point2D p, ScrollEvent e) {
+        if (this.previewImage == null) {
+            this.previewArea = pinfo.getDataArea();
+            this.previewImage = canvas.captureArea(this.previewArea);
+            this.previewInfo = pinfo;
+            this.previewAnchor = p;
+            this.previewZoom = 1.0;
+            if (this.settleTimer == null) {
+                this.settleTimer = new PauseTransition();
+            }
+            this.settleTimer.setOnFinished(event -> applyPreview(canvas, 
+                    zoomable));
+            canvas.beginPreview();
+        }
+        double zf = 1.0 + this.zoomFactor;
+        if ((int) e.getDeltaY() < 0) {
+            zf = 1.0 / zf;
+        }
+        this.previewZoom *= zf;
+        boolean domain = canvas.isDomainZoomable() 
+                && zoomable.isDomainZoomable();
+        boolean range = canvas.isRangeZoomable() && zoomable.isRangeZoomable();
+        boolean vertical = zoomable.getOrientation().isVertical();
+        double sx = (vertical ? domain : range) ? this.previewZoom : 1.0;
+        double sy = (vertical ? range : domain) ? this.previewZoom : 1.0;
+        double ax = this.previewAnchor.getX();
+        double ay = this.previewAnchor.getY();
+        Rectangle2D area = this.previewArea;
+        canvas.drawPreview(this.previewImage, area, 
+                ax + (area.getX() - ax) / sx, ay + (area.getY() - ay) / sy,
+                area.getWidth() / sx, area.getHeight() / sy);
+        this.settleTimer.setDuration(Duration.millis(this.settleDelay));
+        this.settleTimer.playFromStart();
+    }
+
+    /**
+     * Applies the accumulated zoom from a preview to the axes and ends the
+     * preview (which redraws the chart).
+     * 
+     * @param canvas  the chart canvas.
+     * @param zoomable  the zoomable plot.
+     */
+    private void applyPreview(ChartCanvas canvas, Zoomable zoomable) {
+        if (this.previewImage == null) {
+            return;
+        }
+        Plot plot = (Plot) zoomable;
+        boolean notifyState = plot.isNotify();
+        plot.setNotify(false);
+        if (canvas.isDomainZoomable()) {
+            zoomable.zoomDomainAxes(this.previewZoom, this.previewInfo, 
+                    this.previewAnchor, true);
+        }
+        if (canvas.isRangeZoomable()) {
+            zoomable.zoomRangeAxes(this.previewZoom, this.previewInfo, 
+                    this.previewAnchor, true);
+        }
+        plot.setNotify(notifyState);
+        this.previewImage = null;
+        this.previewInfo = null;
+        canvas.endPreview();
+    }
+
 }
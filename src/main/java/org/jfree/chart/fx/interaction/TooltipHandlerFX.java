@@ -37,9 +37,7 @@
 package org.jfree.chart.fx.interaction;
 
 import javafx.scene.input.MouseEvent;
-import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.entity.ChartEntity;
-import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.fx.ChartCanvas;
 
 /**
@@ -68,7 +66,7 @@ public class TooltipHandlerFX extends AbstractMouseHandlerFX
         if (canvas.getChart() == null || !canvas.isTooltipEnabled()) {
             return;
         }
-        String text = getTooltipText(canvas, e.getX(), e.getY());
+        String text = getTooltipText(canvas, e);
         canvas.setTooltip(text, e.getScreenX(), e.getScreenY());
     }
     
@@ -76,21 +74,12 @@ public class TooltipHandlerFX extends AbstractMouseHandlerFX
      * Returns the tooltip text.
      * 
      * @param canvas  the canvas that is displaying the chart.
-     * @param x  the x-coordinate of the mouse pointer.
-     * @param y  the y-coordinate of the mouse pointer.
+     * @param e  the mouse event.
      * 
      * @return String The tooltip text (possibly {@code null}).
       */
-    private String getTooltipText(ChartCanvas canvas, double x, double y) {
-        ChartRenderingInfo info = canvas.getRenderingInfo();
-        if (info == null) {
-            return null;
-        }
-        EntityCollection entities = info.getEntityCollection();
-        if (entities == null) {
-            return null;
-        }
-        ChartEntity entity = entities.getEntity(x, y);
+    private String getTooltipText(ChartCanvas canvas, MouseEvent e) {
+        ChartEntity entity = canvas.getChartMouseEvent(e).getEntity();
         if (entity == null) {
             return null;
         }
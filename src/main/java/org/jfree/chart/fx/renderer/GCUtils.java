@@ -0,0 +1,337 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------
+ * GCUtils.java
+ * ------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.awt.BasicStroke;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.stage.Window;
+import org.jfree.fx.FXGraphics2D;
+
+/**
+ * Utility methods for the renderers that draw directly to a JavaFX
+ * {@code GraphicsContext}.
+ */
+final class GCUtils {
+
+    private GCUtils() {
+        // no need to instantiate this
+    }
+
+    /**
+     * Converts an AWT color to a JavaFX color.
+     *
+     * @param c  the color ({@code null} not permitted).
+     *
+     * @return The JavaFX color.
+     */
+    static Color toFXColor(java.awt.Color c) {
+        return Color.rgb(c.getRed(), c.getGreen(), c.getBlue(),
+                c.getAlpha() / 255.0);
+    }
+
+    /**
+     * Returns the output scale of the window that a graphics context draws
+     * to (for example 2.0 on a high resolution screen), or 1.0 if it is not
+     * known.
+     *
+     * @param gc  the graphics context ({@code null} permitted).
+     *
+     * @return The output scale.
+     */
+    static double outputScale(GraphicsContext gc) {
+        if (gc == null || gc.getCanvas().getScene() == null) {
+            return 1.0;
+        }
+        Window window = gc.getCanvas().getScene().getWindow();
+        if (window == null) {
+            return 1.0;
+        }
+        return Math.max(window.getOutputScaleX(), window.getOutputScaleY());
+    }
+
+    /**
+     * Applies the attributes of a {@code BasicStroke} to a graphics
+     * context.  A zero width stroke is drawn with the zero stroke width of
+     * the {@code Graphics2D} (if it is an {@code FXGraphics2D}).
+     *
+     * @param gc  the graphics context.
+     * @param stroke  the stroke.
+     * @param g2  the {@code Graphics2D} that the chart is drawn with.
+     */
+    static void applyStroke(GraphicsContext gc, BasicStroke stroke,
+            Graphics2D g2) {
+        double width = stroke.getLineWidth();
+        if (width == 0.0) {
+            width = g2 instanceof FXGraphics2D
+                    ? ((FXGraphics2D) g2).getZeroStrokeWidth() : 0.5;
+        }
+        gc.setLineWidth(width);
+        switch (stroke.getEndCap()) {
+            case BasicStroke.CAP_ROUND:
+                gc.setLineCap(StrokeLineCap.ROUND);
+                break;
+            case BasicStroke.CAP_SQUARE:
+                gc.setLineCap(StrokeLineCap.SQUARE);
+                break;
+            default:
+                gc.setLineCap(StrokeLineCap.BUTT);
+        }
+        switch (stroke.getLineJoin()) {
+            case BasicStroke.JOIN_ROUND:
+                gc.setLineJoin(StrokeLineJoin.ROUND);
+                break;
+            case BasicStroke.JOIN_BEVEL:
+                gc.setLineJoin(StrokeLineJoin.BEVEL);
+                break;
+            default:
+                gc.setLineJoin(StrokeLineJoin.MITER);
+        }
+        gc.setMiterLimit(stroke.getMiterLimit());
+        float[] dashes = stroke.getDashArray();
+        if (dashes != null) {
+            double[] d = new double[dashes.length];
+            for (int i = 0; i < dashes.length; i++) {
+                d[i] = dashes[i];
+            }
+            gc.setLineDashes(d);
+            gc.setLineDashOffset(stroke.getDashPhase());
+        } else {
+            gc.setLineDashes((double[]) null);
+        }
+    }
+
+    /**
+     * A shape (usually a series shape) recorded as path segments so that it
+     * can be added to the current path of a graphics context many times,
+     * at different locations, without creating any objects.
+     */
+    static final class ShapeTemplate {
+
+        /** The segment types (see {@link PathIterator}). */
+        private final int[] types;
+
+        /** The coordinates (six per segment). */
+        private final double[] coords;
+
+        /** The number of segments. */
+        private final int count;
+
+        /** The bounds of the shape. */
+        private final double minX, minY, maxX, maxY;
+
+        /**
+         * Creates a template for the specified shape.
+         *
+         * @param shape  the shape ({@code null} not permitted).
+         */
+        ShapeTemplate(Shape shape) {
+            int[] t = new int[16];
+            double[] c = new double[96];
+            int n = 0;
+            double[] segment = new double[6];
+            for (PathIterator it = shape.getPathIterator(null); !it.isDone();
+                    it.next()) {
+                if (n == t.length) {
+                    t = Arrays.copyOf(t, 2 * n);
+                    c = Arrays.copyOf(c, 12 * n);
+                }
+                t[n] = it.currentSegment(segment);
+                System.arraycopy(segment, 0, c, 6 * n, 6);
+                n++;
+            }
+            this.types = t;
+            this.coords = c;
+            this.count = n;
+            Rectangle2D b = shape.getBounds2D();
+            this.minX = b.getMinX();
+            this.minY = b.getMinY();
+            this.maxX = b.getMaxX();
+            this.maxY = b.getMaxY();
+        }
+
+        /**
+         * Returns {@code true} if the shape, translated to {@code (x, y)},
+         * could intersect the specified rectangle.
+         *
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         * @param area  the rectangle.
+         *
+         * @return A boolean.
+         */
+        boolean intersects(double x, double y, Rectangle2D area) {
+            return x + this.maxX >= area.getMinX()
+                    && x + this.minX <= area.getMaxX()
+                    && y + this.maxY >= area.getMinY()
+                    && y + this.minY <= area.getMaxY();
+        }
+
+        /**
+         * Adds the shape, translated to {@code (x, y)}, to the current path
+         * of a graphics context.
+         *
+         * @param gc  the graphics context.
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         */
+        void appendTo(GraphicsContext gc, double x, double y) {
+            double[] c = this.coords;
+            for (int i = 0; i < this.count; i++) {
+                int k = 6 * i;
+                switch (this.types[i]) {
+                    case PathIterator.SEG_MOVETO:
+                        gc.moveTo(x + c[k], y + c[k + 1]);
+                        break;
+                    case PathIterator.SEG_LINETO:
+                        gc.lineTo(x + c[k], y + c[k + 1]);
+                        break;
+                    case PathIterator.SEG_QUADTO:
+                        gc.quadraticCurveTo(x + c[k], y + c[k + 1],
+                                x + c[k + 2], y + c[k + 3]);
+                        break;
+                    case PathIterator.SEG_CUBICTO:
+                        gc.bezierCurveTo(x + c[k], y + c[k + 1],
+                                x + c[k + 2], y + c[k + 3],
+                                x + c[k + 4], y + c[k + 5]);
+                        break;
+                    default:
+                        gc.closePath();
+                }
+            }
+        }
+    }
+
+    /**
+     * An image that is filled from an array of ARGB pixel values and drawn
+     * to the data area, either to the JavaFX graphics context (via a
+     * {@code WritableImage}) or, when the graphics context is not available,
+     * to the {@code Graphics2D} (via a {@code BufferedImage}).  The images
+     * are reused while the size stays the same.
+     */
+    static final class ARGBImage {
+
+        /** The JavaFX image (created on demand, can be null). */
+        private WritableImage fxImage;
+
+        /** The AWT image (created on demand, can be null). */
+        private BufferedImage awtImage;
+
+        /**
+         * Draws the pixels to the specified area.  Image smoothing is
+         * switched off, so that each pixel value covers a sharp rectangle
+         * when the image is scaled.
+         *
+         * @param g2  the graphics device.
+         * @param gc  the graphics context ({@code null} permitted).
+         * @param argb  the pixel values (non-premultiplied ARGB, row by
+         *     row).
+         * @param w  the width of the image in pixels.
+         * @param h  the height of the image in pixels.
+         * @param area  the area to draw the image in.
+         */
+        void draw(Graphics2D g2, GraphicsContext gc, int[] argb, int w,
+                int h, Rectangle2D area) {
+            if (gc != null) {
+                if (this.fxImage == null || this.fxImage.getWidth() != w
+                        || this.fxImage.getHeight() != h) {
+                    this.fxImage = new WritableImage(w, h);
+                }
+                this.fxImage.getPixelWriter().setPixels(0, 0, w, h,
+                        PixelFormat.getIntArgbInstance(), argb, 0, w);
+                gc.save();
+                try {
+                    gc.setImageSmoothing(false);
+                    gc.drawImage(this.fxImage, area.getX(), area.getY(),
+                            area.getWidth(), area.getHeight());
+                } finally {
+                    gc.restore();
+                }
+            } else {
+                if (this.awtImage == null || this.awtImage.getWidth() != w
+                        || this.awtImage.getHeight() != h) {
+                    this.awtImage = new BufferedImage(w, h,
+                            BufferedImage.TYPE_INT_ARGB);
+                }
+                this.awtImage.setRGB(0, 0, w, h, argb, 0, w);
+                g2.drawImage(this.awtImage, (int) Math.round(area.getX()),
+                        (int) Math.round(area.getY()),
+                        (int) Math.round(area.getWidth()),
+                        (int) Math.round(area.getHeight()), null);
+            }
+        }
+    }
+
+    /**
+     * The images used by a renderer, one for each dataset and series that
+     * it draws.  The canvas only reads the pixels of a {@code WritableImage}
+     * when the frame is rendered, so an image that is written twice while
+     * drawing one frame would show the second content in both places.
+     */
+    static final class ARGBImageCache {
+
+        /** The images, keyed by dataset index and series index. */
+        private final Map<Long, ARGBImage> images = new HashMap<>();
+
+        /**
+         * Returns the image for a dataset and series, creating it if
+         * necessary.
+         *
+         * @param dataset  the dataset index.
+         * @param series  the series index.
+         *
+         * @return The image (never {@code null}).
+         */
+        ARGBImage get(int dataset, int series) {
+            long key = ((long) dataset << 32) | (series & 0xFFFFFFFFL);
+            return this.images.computeIfAbsent(key, k -> new ARGBImage());
+        }
+    }
+
+}
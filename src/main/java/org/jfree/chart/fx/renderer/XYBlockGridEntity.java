@@ -0,0 +1,216 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYBlockGridEntity.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.awt.geom.Rectangle2D;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An entity that covers all the blocks of one series drawn by an
+ * {@link XYBlockRendererFX}.  It records the item drawn in each pixel, so
+ * that the entity for the block under a point can be found with
+ * {@link #getCellEntity(double, double)} without creating an entity for
+ * every block.  The {@link org.jfree.chart.fx.ChartCanvas} does this
+ * automatically, so mouse events and tooltips see an {@link XYItemEntity}
+ * for the block.
+ */
+public class XYBlockGridEntity extends ChartEntity {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 152845050944115947L;
+
+    /** The renderer. */
+    private final XYBlockRendererFX renderer;
+
+    /** The dataset. */
+    private transient XYDataset dataset;
+
+    /** The series index. */
+    private final int series;
+
+    /** The item index for each pixel (-1 where there is no item). */
+    private final int[] items;
+
+    /** The width of the pixel grid. */
+    private final int width;
+
+    /** The height of the pixel grid. */
+    private final int height;
+
+    /** The number of pixels per Java2D unit. */
+    private final double scale;
+
+    /** The last entity returned by {@code getCellEntity()}. */
+    private transient XYItemEntity lastEntity;
+
+    /**
+     * Creates a new entity.
+     *
+     * @param area  the data area (this is not copied).
+     * @param renderer  the renderer.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param items  the item index for each pixel (this is not copied).
+     * @param width  the width of the pixel grid.
+     * @param height  the height of the pixel grid.
+     * @param scale  the number of pixels per Java2D unit.
+     */
+    XYBlockGridEntity(Rectangle2D area, XYBlockRendererFX renderer,
+            XYDataset dataset, int series, int[] items, int width,
+            int height, double scale) {
+        super(area);
+        this.renderer = renderer;
+        this.dataset = dataset;
+        this.series = series;
+        this.items = items;
+        this.width = width;
+        this.height = height;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns the dataset.
+     *
+     * @return The dataset.
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Sets the dataset (this is used when the entity was created by
+     * drawing a copy of the chart, to point it at the original dataset).
+     *
+     * @param dataset  the dataset.
+     */
+    public void setDataset(XYDataset dataset) {
+        this.dataset = dataset;
+        this.lastEntity = null;
+    }
+
+    /**
+     * Returns the series index.
+     *
+     * @return The series index.
+     */
+    public int getSeriesIndex() {
+        return this.series;
+    }
+
+    /**
+     * Returns the index of the item drawn at the specified point, or -1
+     * if there is no item at that point.
+     *
+     * @param x  the x-coordinate (in Java2D space).
+     * @param y  the y-coordinate (in Java2D space).
+     *
+     * @return The item index.
+     */
+    public int getItemIndex(double x, double y) {
+        Rectangle2D area = getArea().getBounds2D();
+        int c = (int) Math.floor((x - area.getX()) * this.scale);
+        int r = (int) Math.floor((y - area.getY()) * this.scale);
+        if (c < 0 || c >= this.width || r < 0 || r >= this.height) {
+            return -1;
+        }
+        return this.items[r * this.width + c];
+    }
+
+    /**
+     * Returns an entity for the block drawn at the specified point, or
+     * {@code null} if there is no block at that point.  The area of the
+     * entity is the rectangle of pixels that the block was drawn in.
+     *
+     * @param x  the x-coordinate (in Java2D space).
+     * @param y  the y-coordinate (in Java2D space).
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    public XYItemEntity getCellEntity(double x, double y) {
+        int item = getItemIndex(x, y);
+        if (item < 0) {
+            return null;
+        }
+        XYItemEntity last = this.lastEntity;
+        if (last != null && last.getItem() == item) {
+            return last;
+        }
+        Rectangle2D area = getArea().getBounds2D();
+        int c = (int) Math.floor((x - area.getX()) * this.scale);
+        int r = (int) Math.floor((y - area.getY()) * this.scale);
+        int w = this.width;
+        int c0 = c;
+        while (c0 > 0 && this.items[r * w + c0 - 1] == item) {
+            c0--;
+        }
+        int c1 = c + 1;
+        while (c1 < w && this.items[r * w + c1] == item) {
+            c1++;
+        }
+        int r0 = r;
+        while (r0 > 0 && this.items[(r0 - 1) * w + c] == item) {
+            r0--;
+        }
+        int r1 = r + 1;
+        while (r1 < this.height && this.items[r1 * w + c] == item) {
+            r1++;
+        }
+        Rectangle2D cell = new Rectangle2D.Double(
+                area.getX() + c0 / this.scale, area.getY() + r0 / this.scale,
+                (c1 - c0) / this.scale, (r1 - r0) / this.scale);
+        String tip = null;
+        XYToolTipGenerator generator = this.renderer.getToolTipGenerator(
+                this.series, item);
+        if (generator != null) {
+            tip = generator.generateToolTip(this.dataset, this.series, item);
+        }
+        String url = null;
+        XYURLGenerator urlGenerator = this.renderer.getURLGenerator();
+        if (urlGenerator != null) {
+            url = urlGenerator.generateURL(this.dataset, this.series, item);
+        }
+        XYItemEntity entity = new XYItemEntity(cell, this.dataset,
+                this.series, item, tip, url);
+        this.lastEntity = entity;
+        return entity;
+    }
+
+}
@@ -0,0 +1,442 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYBlockRendererFX.java
+ * ----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import javafx.scene.canvas.GraphicsContext;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.fx.FXChartHints;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.chart.renderer.xy.XYBlockRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.ui.RectangleAnchor;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYZDataset;
+
+/**
+ * An {@link XYBlockRenderer} that, when the chart is drawn in a
+ * {@link org.jfree.chart.fx.ChartCanvas}, writes the blocks for each series
+ * straight into the pixels of an image with one pixel per screen pixel of
+ * the data area, and then draws the image once.  A block that covers less
+ * than a pixel still sets the pixel that contains its center, so the cost
+ * of drawing depends on the number of items and the size of the data area,
+ * but never on the number of rectangles that would be filled.
+ * <p>
+ * Instead of one entity per block, a single {@link XYBlockGridEntity} is
+ * added for each series.  The {@code ChartCanvas} asks that entity for the
+ * block under the mouse pointer, which is found from the pixel position
+ * without searching.</p>
+ * <p>
+ * The pixels are used only when the paint scale returns instances of
+ * {@code java.awt.Color} and item labels are not visible.  Where blocks
+ * overlap, the last block is shown (the colors are not blended).  In other
+ * cases, and when the chart is drawn to any other target (for example when
+ * it is exported), the blocks are drawn in the usual way.</p>
+ */
+public class XYBlockRendererFX extends XYBlockRenderer {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4530009220034582538L;
+
+    /** Whether the renderer draws directly to the graphics context. */
+    private boolean directRendering;
+
+    /** The images for each dataset and series (reused, can be null). */
+    private transient GCUtils.ARGBImageCache images;
+
+    /** The pixel buffer (reused, can be null). */
+    private transient int[] pixels;
+
+    /**
+     * Creates a new renderer with default settings.
+     */
+    public XYBlockRendererFX() {
+        super();
+        this.directRendering = true;
+    }
+
+    /**
+     * Returns the flag that controls whether the renderer writes the blocks
+     * directly into an image when the JavaFX graphics context is
+     * available.  The default value is {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean getDirectRendering() {
+        return this.directRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the renderer writes the blocks
+     * directly into an image when the JavaFX graphics context is available,
+     * and sends a {@code RendererChangeEvent} to all registered listeners.
+     *
+     * @param direct  the new flag value.
+     */
+    public void setDirectRendering(boolean direct) {
+        this.directRendering = direct;
+        fireChangeEvent();
+    }
+
+    /**
+     * The state for the renderer, which records the graphics context (if
+     * the renderer can draw directly) and whether the current series has
+     * been drawn directly.
+     */
+    public static class State extends XYItemRendererState {
+
+        /** The graphics context ({@code null} if not available). */
+        GraphicsContext gc;
+
+        /** Whether the current series is drawn directly. */
+        boolean direct;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+    }
+
+    /**
+     * Initialises the renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        State state = new State(info);
+        if (this.directRendering) {
+            state.gc = FXChartHints.getGraphicsContext(g2);
+        }
+        return state;
+    }
+
+    /**
+     * Draws the block for a single data item or, when the series is drawn
+     * directly, the blocks for all the items in the series when it is
+     * called for the first item (the calls for the other items return
+     * immediately).
+     *
+     * @param g2  the graphics device.
+     * @param state  the state.
+     * @param dataArea  the data area.
+     * @param info  the plot rendering info.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param crosshairState  the crosshair state.
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+        if (!(state instanceof State) || ((State) state).gc == null) {
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+            return;
+        }
+        State s = (State) state;
+        if (item == state.getFirstItemIndex()) {
+            s.direct = canDrawDirect(series, item);
+            if (s.direct && !dataArea.isEmpty()) {
+                drawSeries(g2, s, dataArea, plot, domainAxis, rangeAxis,
+                        dataset, series, crosshairState);
+            }
+        }
+        if (!s.direct) {
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Returns {@code true} if a series can be written directly into an
+     * image.
+     *
+     * @param series  the series index.
+     * @param item  the first item index.
+     *
+     * @return A boolean.
+     */
+    private boolean canDrawDirect(int series, int item) {
+        PaintScale scale = getPaintScale();
+        return !isItemLabelVisible(series, item)
+                && scale.getPaint(scale.getLowerBound()) instanceof Color
+                && scale.getPaint(scale.getUpperBound()) instanceof Color;
+    }
+
+    /**
+     * Writes the blocks for the visible items in a series into an image,
+     * draws the image and (if entities are required) adds a
+     * {@link XYBlockGridEntity} for the series.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param crosshairState  the crosshair state ({@code null} permitted).
+     */
+    private void drawSeries(Graphics2D g2, State state, Rectangle2D dataArea,
+            XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+            XYDataset dataset, int series, CrosshairState crosshairState) {
+        double scale = GCUtils.outputScale(state.gc);
+        int w = Math.max(1, (int) Math.ceil(dataArea.getWidth() * scale));
+        int h = Math.max(1, (int) Math.ceil(dataArea.getHeight() * scale));
+        int size = w * h;
+        if (this.pixels == null || this.pixels.length != size) {
+            this.pixels = new int[size];
+        } else {
+            Arrays.fill(this.pixels, 0);
+        }
+        int[] argb = this.pixels;
+        EntityCollection entities = state.getEntityCollection();
+        int[] itemMap = null;
+        if (entities != null) {
+            itemMap = new int[size];
+            Arrays.fill(itemMap, -1);
+        }
+
+        PlotOrientation orientation = plot.getOrientation();
+        boolean horizontal = orientation == PlotOrientation.HORIZONTAL;
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        double bw = getBlockWidth();
+        double bh = getBlockHeight();
+        double xOffset = anchorOffset(getBlockAnchor(), bw, true);
+        double yOffset = anchorOffset(getBlockAnchor(), bh, false);
+        XYZDataset xyz = dataset instanceof XYZDataset
+                ? (XYZDataset) dataset : null;
+        PaintScale paintScale = getPaintScale();
+        int datasetIndex = plot.indexOf(dataset);
+        double x0 = dataArea.getX();
+        double y0 = dataArea.getY();
+        for (int i = state.getFirstItemIndex();
+                i <= state.getLastItemIndex(); i++) {
+            double x = dataset.getXValue(series, i);
+            double y = dataset.getYValue(series, i);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+            double xx0 = domainAxis.valueToJava2D(x + xOffset, dataArea,
+                    xEdge);
+            double xx1 = domainAxis.valueToJava2D(x + xOffset + bw, dataArea,
+                    xEdge);
+            double yy0 = rangeAxis.valueToJava2D(y + yOffset, dataArea,
+                    yEdge);
+            double yy1 = rangeAxis.valueToJava2D(y + yOffset + bh, dataArea,
+                    yEdge);
+            if (horizontal) {
+                double t0 = xx0;
+                double t1 = xx1;
+                xx0 = yy0;
+                xx1 = yy1;
+                yy0 = t0;
+                yy1 = t1;
+            }
+            // the block in pixel units, relative to the data area
+            double ua = (Math.min(xx0, xx1) - x0) * scale;
+            double ub = (Math.max(xx0, xx1) - x0) * scale;
+            double va = (Math.min(yy0, yy1) - y0) * scale;
+            double vb = (Math.max(yy0, yy1) - y0) * scale;
+            // fill the pixels whose centers are inside the block, or the
+            // pixel that contains the center of a smaller block
+            int c0 = (int) Math.ceil(ua - 0.5);
+            int c1 = (int) Math.ceil(ub - 0.5);
+            if (c1 <= c0) {
+                c0 = (int) Math.floor((ua + ub) / 2.0);
+                c1 = c0 + 1;
+            }
+            int r0 = (int) Math.ceil(va - 0.5);
+            int r1 = (int) Math.ceil(vb - 0.5);
+            if (r1 <= r0) {
+                r0 = (int) Math.floor((va + vb) / 2.0);
+                r1 = r0 + 1;
+            }
+            c0 = Math.max(c0, 0);
+            c1 = Math.min(c1, w);
+            r0 = Math.max(r0, 0);
+            r1 = Math.min(r1, h);
+            if (c0 >= c1 || r0 >= r1) {
+                continue;
+            }
+            double z = xyz != null ? xyz.getZValue(series, i) : 0.0;
+            Paint p = paintScale.getPaint(z);
+            int color = p instanceof Color ? ((Color) p).getRGB() : 0;
+            for (int r = r0; r < r1; r++) {
+                Arrays.fill(argb, r * w + c0, r * w + c1, color);
+                if (itemMap != null) {
+                    Arrays.fill(itemMap, r * w + c0, r * w + c1, i);
+                }
+            }
+            double transX = domainAxis.valueToJava2D(x, dataArea, xEdge);
+            double transY = rangeAxis.valueToJava2D(y, dataArea, yEdge);
+            updateCrosshairValues(crosshairState, x, y, datasetIndex,
+                    transX, transY, orientation);
+        }
+
+        if (this.images == null) {
+            this.images = new GCUtils.ARGBImageCache();
+        }
+        this.images.get(datasetIndex, series).draw(g2, state.gc, argb, w, h,
+                dataArea);
+        if (entities != null) {
+            entities.add(new XYBlockGridEntity(
+                    (Rectangle2D) dataArea.clone(), this, dataset, series,
+                    itemMap, w, h, scale));
+        }
+    }
+
+    /**
+     * Returns the offset from a data value to the edge of its block, for
+     * the specified block anchor (this matches the offsets used by the
+     * {@code XYBlockRenderer}).
+     *
+     * @param anchor  the block anchor.
+     * @param size  the block width (or height).
+     * @param horizontal  {@code true} for the x-offset, {@code false} for
+     *     the y-offset.
+     *
+     * @return The offset.
+     */
+    private static double anchorOffset(RectangleAnchor anchor, double size,
+            boolean horizontal) {
+        if (horizontal) {
+            if (anchor == RectangleAnchor.BOTTOM
+                    || anchor == RectangleAnchor.CENTER
+                    || anchor == RectangleAnchor.TOP) {
+                return -size / 2.0;
+            }
+            if (anchor == RectangleAnchor.BOTTOM_RIGHT
+                    || anchor == RectangleAnchor.RIGHT
+                    || anchor == RectangleAnchor.TOP_RIGHT) {
+                return -size;
+            }
+            return 0.0;
+        }
+        if (anchor == RectangleAnchor.LEFT
+                || anchor == RectangleAnchor.CENTER
+                || anchor == RectangleAnchor.RIGHT) {
+            return -size / 2.0;
+        }
+        if (anchor == RectangleAnchor.TOP_LEFT
+                || anchor == RectangleAnchor.TOP
+                || anchor == RectangleAnchor.TOP_RIGHT) {
+            return -size;
+        }
+        return 0.0;
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYBlockRendererFX)) {
+            return false;
+        }
+        XYBlockRendererFX that = (XYBlockRendererFX) obj;
+        if (this.directRendering != that.directRendering) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (this.directRendering ? 1 : 0);
+    }
+
+    /**
+     * Returns a clone of the renderer.  The clone does not share the
+     * buffers used for drawing.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the renderer cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYBlockRendererFX clone = (XYBlockRendererFX) super.clone();
+        clone.images = null;
+        clone.pixels = null;
+        return clone;
+    }
+
+}
@@ -0,0 +1,498 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * XYDensityRendererFX.java
+ * ------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import javafx.scene.canvas.GraphicsContext;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.fx.FXChartHints;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.chart.util.Args;
+import org.jfree.chart.util.PublicCloneable;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A renderer for very large scatter plots that draws the density of the
+ * data items rather than a shape for each item.  The items in all the
+ * visible series are counted into a buffer with one cell per pixel of the
+ * data area, the counts are mapped to colors through a {@link PaintScale}
+ * and the result is drawn as a single image.  Pixels that contain no items
+ * are transparent.
+ * <p>
+ * For large datasets the counting is split across the threads of the
+ * common {@code ForkJoinPool}, so the dataset must support reading from
+ * several threads at once (the datasets in JFreeChart do, as long as they
+ * are not modified at the same time).  When the chart is displayed in a
+ * {@link org.jfree.chart.fx.ChartCanvas} the image is written with a
+ * single {@code PixelWriter.setPixels()} call and drawn at the resolution
+ * of the screen.  The renderer does not create chart entities.</p>
+ */
+public class XYDensityRendererFX extends AbstractXYItemRenderer {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6444420469360948020L;
+
+    /** The minimum number of items that are counted by one task. */
+    private static final int ITEMS_PER_TASK = 250_000;
+
+    /**
+     * The maximum number of cells in the count buffers for one draw (the
+     * number of tasks is reduced for a large data area).
+     */
+    private static final int MAX_COUNT_CELLS = 1 << 24;
+
+    /** The number of entries in the color lookup table. */
+    private static final int LOOKUP_SIZE = 256;
+
+    /**
+     * The paint scale, which maps the relative density (from 0.0 to 1.0)
+     * to a color.
+     */
+    private PaintScale paintScale;
+
+    /**
+     * Whether the density is scaled logarithmically (so that sparse areas
+     * are still visible next to dense ones).
+     */
+    private boolean logScale;
+
+    /** The images for each dataset (reused, can be null). */
+    private transient GCUtils.ARGBImageCache images;
+
+    /**
+     * Creates a new renderer with a blue to red paint scale.
+     */
+    public XYDensityRendererFX() {
+        LookupPaintScale scale = new LookupPaintScale(0.0, 1.0, Color.BLUE);
+        int steps = 64;
+        for (int i = 0; i < steps; i++) {
+            float f = i / (float) (steps - 1);
+            scale.add(i / (double) steps,
+                    Color.getHSBColor(0.66f * (1.0f - f), 0.85f, 1.0f));
+        }
+        this.paintScale = scale;
+        this.logScale = true;
+    }
+
+    /**
+     * Returns the paint scale, which maps the relative density of the
+     * items in a pixel (a value from 0.0 to 1.0) to a color.
+     *
+     * @return The paint scale (never {@code null}).
+     */
+    public PaintScale getPaintScale() {
+        return this.paintScale;
+    }
+
+    /**
+     * Sets the paint scale and sends a {@code RendererChangeEvent} to all
+     * registered listeners.  The paint scale should cover the range 0.0 to
+     * 1.0 and return instances of {@code java.awt.Color}.
+     *
+     * @param scale  the paint scale ({@code null} not permitted).
+     */
+    public void setPaintScale(PaintScale scale) {
+        Args.nullNotPermitted(scale, "scale");
+        this.paintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether the density is scaled
+     * logarithmically.  The default value is {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean isLogScale() {
+        return this.logScale;
+    }
+
+    /**
+     * Sets the flag that controls whether the density is scaled
+     * logarithmically and sends a {@code RendererChangeEvent} to all
+     * registered listeners.
+     *
+     * @param log  the new flag value.
+     */
+    public void setLogScale(boolean log) {
+        this.logScale = log;
+        fireChangeEvent();
+    }
+
+    /**
+     * The state for the renderer, which records whether the density has
+     * been drawn for the current dataset.
+     */
+    public static class State extends XYItemRendererState {
+
+        /** The graphics context ({@code null} if not available). */
+        GraphicsContext gc;
+
+        /** Whether the density image has been drawn. */
+        boolean drawn;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+    }
+
+    /**
+     * Initialises the renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        State state = new State(info);
+        state.gc = FXChartHints.getGraphicsContext(g2);
+        return state;
+    }
+
+    /**
+     * Draws the density image for all the visible series when it is called
+     * for the first item, and does nothing for the other items.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot (can be used to obtain standard color
+     *              information etc).
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot
+     *                        ({@code null} permitted).
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+        State s = (State) state;
+        if (s.drawn) {
+            return;
+        }
+        s.drawn = true;
+        if (dataArea.isEmpty()) {
+            return;
+        }
+        drawDensity(g2, s.gc, dataArea, plot, domainAxis, rangeAxis,
+                dataset);
+    }
+
+    /**
+     * Counts the items in the visible series and draws the density image.
+     *
+     * @param g2  the graphics device.
+     * @param gc  the graphics context ({@code null} permitted).
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     */
+    private synchronized void drawDensity(Graphics2D g2, GraphicsContext gc,
+            Rectangle2D dataArea, XYPlot plot, ValueAxis domainAxis,
+            ValueAxis rangeAxis, XYDataset dataset) {
+        // count at the resolution of the screen where possible
+        double scale = GCUtils.outputScale(gc);
+        int w = Math.max(1, (int) Math.ceil(dataArea.getWidth() * scale));
+        int h = Math.max(1, (int) Math.ceil(dataArea.getHeight() * scale));
+
+        // the item range for each visible series
+        int seriesCount = dataset.getSeriesCount();
+        int[] from = new int[seriesCount];
+        int[] to = new int[seriesCount];
+        long total = 0;
+        boolean ascending = dataset.getDomainOrder() == DomainOrder.ASCENDING;
+        for (int s = 0; s < seriesCount; s++) {
+            int n = dataset.getItemCount(s);
+            if (!isSeriesVisible(s) || n == 0) {
+                continue;
+            }
+            if (ascending && domainAxis.getLowerBound()
+                    < domainAxis.getUpperBound()) {
+                int[] live = RendererUtils.findLiveItems(dataset, s,
+                        domainAxis.getLowerBound(),
+                        domainAxis.getUpperBound());
+                from[s] = live[0];
+                to[s] = live[1] + 1;
+            } else {
+                to[s] = n;
+            }
+            total += to[s] - from[s];
+        }
+
+        // each task has its own count buffer, and the buffers are released
+        // after drawing
+        int size = w * h;
+        int tasks = (int) Math.max(1, Math.min(Math.min(
+                ForkJoinPool.getCommonPoolParallelism(),
+                total / ITEMS_PER_TASK), MAX_COUNT_CELLS / size));
+        int[][] c = new int[tasks][size];
+        boolean horizontal = plot.getOrientation()
+                == PlotOrientation.HORIZONTAL;
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        final double cellScale = scale;
+        IntStream.range(0, tasks).parallel().forEach(t -> {
+            for (int series = 0; series < seriesCount; series++) {
+                int len = to[series] - from[series];
+                int i0 = from[series] + (int) ((long) len * t / tasks);
+                int i1 = from[series] + (int) ((long) len * (t + 1) / tasks);
+                countItems(c[t], w, h, cellScale, dataset, series, i0, i1,
+                        dataArea, domainAxis, rangeAxis, xEdge, yEdge,
+                        horizontal);
+            }
+        });
+
+        // merge the counts into the first buffer and find the maximum
+        int[] merged = c[0];
+        int max = 0;
+        if (tasks > 1) {
+            int stripes = tasks;
+            max = IntStream.range(0, stripes).parallel().map(k -> {
+                int m = 0;
+                int p1 = (int) ((long) size * (k + 1) / stripes);
+                for (int p = (int) ((long) size * k / stripes); p < p1; p++) {
+                    int sum = 0;
+                    for (int t = 0; t < tasks; t++) {
+                        sum += c[t][p];
+                    }
+                    merged[p] = sum;
+                    m = Math.max(m, sum);
+                }
+                return m;
+            }).max().orElse(0);
+        } else {
+            for (int p = 0; p < size; p++) {
+                max = Math.max(max, merged[p]);
+            }
+        }
+        if (max == 0) {
+            return;
+        }
+
+        // map the counts to colors (in place)
+        int[] lookup = new int[LOOKUP_SIZE];
+        for (int k = 0; k < LOOKUP_SIZE; k++) {
+            Paint p = this.paintScale.getPaint((k + 1.0) / LOOKUP_SIZE);
+            lookup[k] = p instanceof Color ? ((Color) p).getRGB() : 0;
+        }
+        int[] argb = merged;
+        double norm = this.logScale ? 1.0 / Math.log1p(max) : 1.0 / max;
+        boolean log = this.logScale;
+        for (int p = 0; p < size; p++) {
+            int n = merged[p];
+            if (n == 0) {
+                argb[p] = 0;
+            } else {
+                double f = (log ? Math.log1p(n) : n) * norm;
+                argb[p] = lookup[Math.min(LOOKUP_SIZE - 1,
+                        (int) (f * LOOKUP_SIZE))];
+            }
+        }
+        if (this.images == null) {
+            this.images = new GCUtils.ARGBImageCache();
+        }
+        this.images.get(plot.indexOf(dataset), 0).draw(g2, gc, argb, w, h,
+                dataArea);
+    }
+
+    /**
+     * Counts the items in part of a series into a buffer.
+     *
+     * @param count  the count buffer.
+     * @param w  the width of the buffer.
+     * @param h  the height of the buffer.
+     * @param scale  the number of buffer cells per Java2D unit.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param i0  the first item (inclusive).
+     * @param i1  the last item (exclusive).
+     * @param dataArea  the data area.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param xEdge  the domain axis edge.
+     * @param yEdge  the range axis edge.
+     * @param horizontal  is the plot orientation horizontal?
+     */
+    private static void countItems(int[] count, int w, int h, double scale,
+            XYDataset dataset, int series, int i0, int i1,
+            Rectangle2D dataArea, ValueAxis domainAxis, ValueAxis rangeAxis,
+            RectangleEdge xEdge, RectangleEdge yEdge, boolean horizontal) {
+        double x0 = dataArea.getX();
+        double y0 = dataArea.getY();
+        if (isLinear(domainAxis) && isLinear(rangeAxis)) {
+            // the common case, map the values with a multiply and add
+            double ax = domainAxis.valueToJava2D(0.0, dataArea, xEdge);
+            double bx = domainAxis.valueToJava2D(1.0, dataArea, xEdge) - ax;
+            double ay = rangeAxis.valueToJava2D(0.0, dataArea, yEdge);
+            double by = rangeAxis.valueToJava2D(1.0, dataArea, yEdge) - ay;
+            double cx = ((horizontal ? ay : ax) - x0) * scale;
+            double dx = (horizontal ? 0.0 : bx) * scale;
+            double ex = (horizontal ? by : 0.0) * scale;
+            double cy = ((horizontal ? ax : ay) - y0) * scale;
+            double dy = (horizontal ? bx : 0.0) * scale;
+            double ey = (horizontal ? 0.0 : by) * scale;
+            for (int i = i0; i < i1; i++) {
+                double x = dataset.getXValue(series, i);
+                double y = dataset.getYValue(series, i);
+                double px = cx + dx * x + ex * y;
+                double py = cy + dy * x + ey * y;
+                // NaN fails both tests and is skipped
+                if (px >= 0.0 && px < w && py >= 0.0 && py < h) {
+                    count[(int) py * w + (int) px]++;
+                }
+            }
+            return;
+        }
+        for (int i = i0; i < i1; i++) {
+            double tx = domainAxis.valueToJava2D(
+                    dataset.getXValue(series, i), dataArea, xEdge);
+            double ty = rangeAxis.valueToJava2D(
+                    dataset.getYValue(series, i), dataArea, yEdge);
+            double px = ((horizontal ? ty : tx) - x0) * scale;
+            double py = ((horizontal ? tx : ty) - y0) * scale;
+            if (px >= 0.0 && px < w && py >= 0.0 && py < h) {
+                count[(int) py * w + (int) px]++;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the axis is known to map data values to
+     * Java2D coordinates linearly.
+     *
+     * @param axis  the axis.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLinear(ValueAxis axis) {
+        return axis.getClass() == NumberAxis.class;
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYDensityRendererFX)) {
+            return false;
+        }
+        XYDensityRendererFX that = (XYDensityRendererFX) obj;
+        if (!this.paintScale.equals(that.paintScale)) {
+            return false;
+        }
+        if (this.logScale != that.logScale) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hash(this.paintScale,
+                this.logScale);
+    }
+
+    /**
+     * Returns a clone of the renderer.  The clone does not share the
+     * images used for drawing.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the renderer cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYDensityRendererFX clone = (XYDensityRendererFX) super.clone();
+        if (this.paintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.paintScale;
+            clone.paintScale = (PaintScale) pc.clone();
+        }
+        clone.images = null;
+        return clone;
+    }
+
+}
@@ -0,0 +1,487 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * XYLineAndShapeRendererFX.java
+ * -----------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.fx.FXChartHints;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.chart.util.ShapeUtils;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link XYLineAndShapeRenderer} that, when the chart is drawn in a
+ * {@link org.jfree.chart.fx.ChartCanvas}, draws the lines and shapes for
+ * each series with direct calls to the JavaFX {@code GraphicsContext}
+ * instead of creating an AWT {@code Shape} for every item.  The data
+ * values are read with {@code getXValue()} and {@code getYValue()}, so no
+ * objects are created per item (except for the chart entities, when they
+ * are required).
+ * <p>
+ * The direct drawing applies the series level paint, stroke and shape to
+ * every item in a series, and is used only when the paints are instances
+ * of {@code java.awt.Color}, the strokes are instances of
+ * {@code BasicStroke} and item labels are not visible.  In all other cases,
+ * and when the chart is drawn to any other target (for example when it is
+ * exported to an image), the items are drawn in the usual way.  Subclasses
+ * that vary the paint, stroke or shape for individual items should switch
+ * the direct drawing off (see {@link #setDirectRendering(boolean)}).</p>
+ */
+public class XYLineAndShapeRendererFX extends XYLineAndShapeRenderer {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 7190077502481561256L;
+
+    /**
+     * The maximum number of points or shapes in a path before it is
+     * stroked or filled (very long paths are slow to rasterize).
+     */
+    private static final int MAX_PATH_SEGMENTS = 1024;
+
+    /** Whether the renderer draws directly to the graphics context. */
+    private boolean directRendering;
+
+    /**
+     * Creates a new renderer with both lines and shapes visible.
+     */
+    public XYLineAndShapeRendererFX() {
+        this(true, true);
+    }
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param lines  lines visible?
+     * @param shapes  shapes visible?
+     */
+    public XYLineAndShapeRendererFX(boolean lines, boolean shapes) {
+        super(lines, shapes);
+        this.directRendering = true;
+    }
+
+    /**
+     * Returns the flag that controls whether the renderer draws directly to
+     * the JavaFX graphics context when it is available.  The default value
+     * is {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean getDirectRendering() {
+        return this.directRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the renderer draws directly to
+     * the JavaFX graphics context when it is available, and sends a
+     * {@code RendererChangeEvent} to all registered listeners.
+     *
+     * @param direct  the new flag value.
+     */
+    public void setDirectRendering(boolean direct) {
+        this.directRendering = direct;
+        fireChangeEvent();
+    }
+
+    /**
+     * The state for the renderer, which records the graphics context (if
+     * the renderer can draw directly) and whether the current series pass
+     * has been drawn directly.
+     */
+    public static class State extends XYLineAndShapeRenderer.State {
+
+        /** The graphics context ({@code null} if not available). */
+        GraphicsContext gc;
+
+        /** Whether the current series pass is drawn directly. */
+        boolean direct;
+
+        /** Whether shape outlines are drawn (when drawn directly). */
+        boolean outlines;
+
+        /**
+         * Creates a new state instance.
+         *
+         * @param info  the plot rendering info.
+         */
+        public State(PlotRenderingInfo info) {
+            super(info);
+        }
+    }
+
+    /**
+     * Initialises the renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param data  the data.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset data, PlotRenderingInfo info) {
+        State state = new State(info);
+        if (this.directRendering) {
+            state.gc = FXChartHints.getGraphicsContext(g2);
+            state.outlines = FXChartHints.isShapeOutlines(g2);
+        }
+        return state;
+    }
+
+    /**
+     * Draws the visual representation of a single data item.  When the
+     * series is drawn directly, all the items for the current pass are
+     * drawn with the first item and the calls for the other items return
+     * immediately.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot (can be used to obtain standard color
+     *              information etc).
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot
+     *                        ({@code null} permitted).
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+        if (!(state instanceof State) || ((State) state).gc == null) {
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+            return;
+        }
+        State s = (State) state;
+        if (item == state.getFirstItemIndex()) {
+            s.direct = canDrawDirect(series, item, pass);
+            if (s.direct && getItemVisible(series, item)) {
+                if (isLinePass(pass)) {
+                    drawSeriesLine(s.gc, g2, state, dataArea, plot,
+                            domainAxis, rangeAxis, dataset, series);
+                } else {
+                    drawSeriesShapes(s.gc, g2, state, dataArea, info, plot,
+                            domainAxis, rangeAxis, dataset, series,
+                            crosshairState);
+                }
+            }
+        }
+        if (!s.direct) {
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    /**
+     * Returns {@code true} if a series pass can be drawn directly to the
+     * graphics context.
+     *
+     * @param series  the series index.
+     * @param item  the first item index.
+     * @param pass  the pass index.
+     *
+     * @return A boolean.
+     */
+    private boolean canDrawDirect(int series, int item, int pass) {
+        if (isLinePass(pass)) {
+            return !getItemLineVisible(series, item)
+                    || (getItemPaint(series, item) instanceof Color
+                    && getItemStroke(series, item) instanceof BasicStroke);
+        }
+        if (!isItemPass(pass) || isItemLabelVisible(series, item)) {
+            return false;
+        }
+        if (!getItemShapeVisible(series, item)) {
+            return true;
+        }
+        if (getItemShapeFilled(series, item)) {
+            Paint fill = getUseFillPaint() ? getItemFillPaint(series, item)
+                    : getItemPaint(series, item);
+            if (!(fill instanceof Color)) {
+                return false;
+            }
+        }
+        if (getDrawOutlines()) {
+            Paint outline = getUseOutlinePaint()
+                    ? getItemOutlinePaint(series, item)
+                    : getItemPaint(series, item);
+            Stroke stroke = getItemOutlineStroke(series, item);
+            if (!(outline instanceof Color)
+                    || !(stroke instanceof BasicStroke)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Draws the line for the visible items in a series.
+     *
+     * @param gc  the graphics context.
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     */
+    private void drawSeriesLine(GraphicsContext gc, Graphics2D g2,
+            XYItemRendererState state, Rectangle2D dataArea, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series) {
+        int first = state.getFirstItemIndex();
+        if (!getItemLineVisible(series, first)) {
+            return;
+        }
+        boolean horizontal = plot.getOrientation()
+                == PlotOrientation.HORIZONTAL;
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        gc.save();
+        try {
+            gc.setStroke(GCUtils.toFXColor((Color) getItemPaint(series,
+                    first)));
+            GCUtils.applyStroke(gc, (BasicStroke) getItemStroke(series,
+                    first), g2);
+            gc.beginPath();
+            int segments = 0;
+            boolean penDown = false;
+            for (int i = first; i <= state.getLastItemIndex(); i++) {
+                double x = dataset.getXValue(series, i);
+                double y = dataset.getYValue(series, i);
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    penDown = false;
+                    continue;
+                }
+                double tx = domainAxis.valueToJava2D(x, dataArea, xEdge);
+                double ty = rangeAxis.valueToJava2D(y, dataArea, yEdge);
+                double px = horizontal ? ty : tx;
+                double py = horizontal ? tx : ty;
+                if (penDown) {
+                    gc.lineTo(px, py);
+                    if (++segments == MAX_PATH_SEGMENTS) {
+                        gc.stroke();
+                        gc.beginPath();
+                        gc.moveTo(px, py);
+                        segments = 0;
+                    }
+                } else {
+                    gc.moveTo(px, py);
+                    penDown = true;
+                }
+            }
+            gc.stroke();
+        } finally {
+            gc.restore();
+        }
+    }
+
+    /**
+     * Draws the shapes for the visible items in a series, and updates the
+     * crosshair state and entities in the same way as
+     * {@link #drawSecondaryPass drawSecondaryPass()}.
+     *
+     * @param gc  the graphics context.
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the data area.
+     * @param info  the plot rendering info ({@code null} permitted).
+     * @param plot  the plot.
+     * @param domainAxis  the domain axis.
+     * @param rangeAxis  the range axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param crosshairState  the crosshair state ({@code null} permitted).
+     */
+    private void drawSeriesShapes(GraphicsContext gc, Graphics2D g2,
+            XYItemRendererState state, Rectangle2D dataArea,
+            PlotRenderingInfo info, XYPlot plot, ValueAxis domainAxis,
+            ValueAxis rangeAxis, XYDataset dataset, int series,
+            CrosshairState crosshairState) {
+        int first = state.getFirstItemIndex();
+        PlotOrientation orientation = plot.getOrientation();
+        boolean horizontal = orientation == PlotOrientation.HORIZONTAL;
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        EntityCollection entities = null;
+        if (info != null && info.getOwner() != null) {
+            entities = info.getOwner().getEntityCollection();
+        }
+        int datasetIndex = plot.indexOf(dataset);
+
+        boolean shapeVisible = getItemShapeVisible(series, first);
+        Shape shape = getItemShape(series, first);
+        GCUtils.ShapeTemplate template = null;
+        boolean fill = false;
+        boolean outline = false;
+        gc.save();
+        try {
+            if (shapeVisible) {
+                template = new GCUtils.ShapeTemplate(shape);
+                if (getItemShapeFilled(series, first)) {
+                    Paint p = getUseFillPaint()
+                            ? getItemFillPaint(series, first)
+                            : getItemPaint(series, first);
+                    gc.setFill(GCUtils.toFXColor((Color) p));
+                    fill = true;
+                }
+                if (getDrawOutlines() && ((State) state).outlines) {
+                    Paint p = getUseOutlinePaint()
+                            ? getItemOutlinePaint(series, first)
+                            : getItemPaint(series, first);
+                    gc.setStroke(GCUtils.toFXColor((Color) p));
+                    GCUtils.applyStroke(gc, (BasicStroke)
+                            getItemOutlineStroke(series, first), g2);
+                    outline = true;
+                }
+                gc.beginPath();
+            }
+            int shapes = 0;
+            for (int i = first; i <= state.getLastItemIndex(); i++) {
+                double x = dataset.getXValue(series, i);
+                double y = dataset.getYValue(series, i);
+                if (Double.isNaN(x) || Double.isNaN(y)) {
+                    continue;
+                }
+                double tx = domainAxis.valueToJava2D(x, dataArea, xEdge);
+                double ty = rangeAxis.valueToJava2D(y, dataArea, yEdge);
+                double xx = horizontal ? ty : tx;
+                double yy = horizontal ? tx : ty;
+                if (template != null && template.intersects(xx, yy,
+                        dataArea)) {
+                    template.appendTo(gc, xx, yy);
+                    if (++shapes == MAX_PATH_SEGMENTS) {
+                        paintPath(gc, fill, outline);
+                        gc.beginPath();
+                        shapes = 0;
+                    }
+                }
+                updateCrosshairValues(crosshairState, x, y, datasetIndex,
+                        tx, ty, orientation);
+                if (entities != null
+                        && ShapeUtils.isPointInRect(dataArea, xx, yy)) {
+                    Shape entityArea = shapeVisible
+                            ? ShapeUtils.createTranslatedShape(shape, xx, yy)
+                            : null;
+                    addEntity(entities, entityArea, dataset, series, i, xx,
+                            yy);
+                }
+            }
+            if (template != null) {
+                paintPath(gc, fill, outline);
+            }
+        } finally {
+            gc.restore();
+        }
+    }
+
+    /**
+     * Fills and/or strokes the current path.
+     *
+     * @param gc  the graphics context.
+     * @param fill  fill the path?
+     * @param outline  stroke the path?
+     */
+    private static void paintPath(GraphicsContext gc, boolean fill,
+            boolean outline) {
+        if (fill) {
+            gc.fill();
+        }
+        if (outline) {
+            gc.stroke();
+        }
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYLineAndShapeRendererFX)) {
+            return false;
+        }
+        XYLineAndShapeRendererFX that = (XYLineAndShapeRendererFX) obj;
+        if (this.directRendering != that.directRendering) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (this.directRendering ? 1 : 0);
+    }
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains renderers that are optimised for drawing charts in a
+ * {@link org.jfree.chart.fx.ChartCanvas}.
+ */
+package org.jfree.chart.fx.renderer;
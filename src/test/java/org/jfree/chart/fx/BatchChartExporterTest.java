@@ -0,0 +1,259 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * BatchChartExporterTest.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.fx.BatchChartExporter.Format;
+import org.jfree.chart.fx.BatchChartExporter.Job;
+import org.jfree.chart.fx.BatchChartExporter.Result;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link BatchChartExporter} class.
+ */
+public class BatchChartExporterTest {
+
+    /**
+     * A plot that throws an exception or error when it is drawn.
+     */
+    static final class FailingPlot extends XYPlot {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The exception to throw. */
+        private final transient RuntimeException exception;
+
+        /** The error to throw (if {@code exception} is null). */
+        private final transient Error error;
+
+        FailingPlot(RuntimeException exception, Error error) {
+            this.exception = exception;
+            this.error = error;
+        }
+
+        @Override
+        public void draw(Graphics2D g2, Rectangle2D area, Point2D anchor,
+                PlotState parentState, PlotRenderingInfo info) {
+            if (this.exception != null) {
+                throw this.exception;
+            }
+            throw this.error;
+        }
+    }
+
+    /**
+     * Creates a chart that can be exported.
+     */
+    private static JFreeChart createChart() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, Math.sin(i / 10.0));
+        }
+        return ChartFactory.createXYLineChart("Chart", "X", "Y",
+                new XYSeriesCollection(series));
+    }
+
+    /**
+     * Reads back an exported image.
+     */
+    private static BufferedImage read(ByteArrayOutputStream out)
+            throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * Checks that each job in a batch succeeds or fails on its own, and
+     * that the results are returned in the order of the jobs.
+     */
+    private static void checkFailureIsolation(boolean virtualThreads)
+            throws Exception {
+        JFreeChart chart = createChart();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        IOException ioe = new IOException("Cannot open.");
+        IllegalStateException ise = new IllegalStateException("Draw failed.");
+        AssertionError error = new AssertionError("Error in draw.");
+        List<Job> jobs = Arrays.asList(
+                new Job(chart, 300, 200, Format.PNG, () -> png),
+                new Job(chart, 300, 200, Format.PNG, () -> {
+                    throw ioe;
+                }),
+                new Job(new JFreeChart(new FailingPlot(ise, null)), 300, 200,
+                        Format.PNG, ByteArrayOutputStream::new),
+                new Job(new JFreeChart(new FailingPlot(null, error)), 300,
+                        200, Format.PNG, ByteArrayOutputStream::new),
+                new Job(chart, 120, 80, Format.JPEG, () -> jpeg));
+        BatchChartExporter exporter = new BatchChartExporter();
+        exporter.setParallelism(2);
+        exporter.setVirtualThreads(virtualThreads);
+        List<Result> results = exporter.export(jobs);
+
+        assertEquals(jobs.size(), results.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            assertSame(jobs.get(i), results.get(i).getJob());
+        }
+        assertTrue(results.get(0).isSuccess());
+        assertNull(results.get(0).getError());
+        assertTrue(results.get(0).getRenderTime() > 0L);
+        assertTrue(results.get(0).getEncodeTime() > 0L);
+        BufferedImage image = read(png);
+        assertEquals(300, image.getWidth());
+        assertEquals(200, image.getHeight());
+
+        assertFalse(results.get(1).isSuccess());
+        assertSame(ioe, results.get(1).getError());
+        assertEquals(0L, results.get(1).getEncodeTime());
+
+        assertFalse(results.get(2).isSuccess());
+        assertSame(ise, results.get(2).getError());
+        assertEquals(0L, results.get(2).getEncodeTime());
+
+        assertFalse(results.get(3).isSuccess());
+        assertSame(error, results.get(3).getError());
+
+        assertTrue(results.get(4).isSuccess());
+        image = read(jpeg);
+        assertEquals(120, image.getWidth());
+        assertEquals(80, image.getHeight());
+    }
+
+    /**
+     * A failing job does not affect the other jobs (platform threads).
+     */
+    @Test
+    public void testFailureIsolation() throws Exception {
+        checkFailureIsolation(false);
+    }
+
+    /**
+     * A failing job does not affect the other jobs (virtual threads).
+     */
+    @Test
+    public void testFailureIsolationVirtualThreads() throws Exception {
+        checkFailureIsolation(true);
+    }
+
+    /**
+     * A batch with many jobs for the same chart exports every image, with
+     * fewer threads than jobs.
+     */
+    @Test
+    public void testSharedChart() throws Exception {
+        JFreeChart chart = createChart();
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.add(out);
+            jobs.add(new Job(chart, 100 + i, 100, Format.PNG, () -> out));
+        }
+        BatchChartExporter exporter = new BatchChartExporter();
+        exporter.setParallelism(3);
+        List<Result> results = exporter.export(jobs);
+        for (int i = 0; i < jobs.size(); i++) {
+            assertTrue(results.get(i).isSuccess());
+            assertEquals(100 + i, read(outputs.get(i)).getWidth());
+        }
+    }
+
+    /**
+     * The exporter does not lock the chart, so application code holding
+     * the chart's monitor does not block the export.
+     */
+    @Test
+    public void testNoLockOnChart() throws Exception {
+        JFreeChart chart = createChart();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BatchChartExporter exporter = new BatchChartExporter();
+        List<Result> results;
+        synchronized (chart) {
+            results = exporter.export(Collections.singletonList(
+                    new Job(chart, 100, 80, Format.PNG, () -> out)));
+        }
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(80, read(out).getHeight());
+    }
+
+    /**
+     * An empty batch returns no results, and invalid arguments are
+     * rejected.
+     */
+    @Test
+    public void testArguments() throws Exception {
+        BatchChartExporter exporter = new BatchChartExporter();
+        assertTrue(exporter.export(Collections.emptyList()).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> exporter.export(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> exporter.setParallelism(0));
+        JFreeChart chart = createChart();
+        assertThrows(IllegalArgumentException.class, () -> new Job(chart, 0,
+                100, Format.PNG, ByteArrayOutputStream::new));
+        assertThrows(IllegalArgumentException.class, () -> new Job(chart,
+                100, 100, null, ByteArrayOutputStream::new));
+        assertInstanceOf(Job.class, new Job(chart, 1, 1, Format.JPEG,
+                ByteArrayOutputStream::new));
+    }
+
+}
@@ -0,0 +1,154 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartCanvasMetricsTest.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link ChartCanvasMetrics} class.
+ */
+public class ChartCanvasMetricsTest {
+
+    /**
+     * With no timed frames every percentile is zero, and a percentile
+     * outside the range 0 to 100 is rejected.
+     */
+    @Test
+    public void testPercentileEmptyAndInvalid() {
+        ChartCanvasMetrics metrics = new ChartCanvasMetrics();
+        assertEquals(0L, metrics.getDrawTimePercentile(0.0));
+        assertEquals(0L, metrics.getDrawTimePercentile(50.0));
+        assertEquals(0L, metrics.getDrawTimePercentile(100.0));
+        metrics.frameDrawn(-1L, 0L, 0);  // not timed
+        assertEquals(1L, metrics.getRenderCount());
+        assertEquals(0L, metrics.getDrawTimePercentile(100.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> metrics.getDrawTimePercentile(-0.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> metrics.getDrawTimePercentile(100.1));
+        assertThrows(IllegalArgumentException.class,
+                () -> metrics.getDrawTimePercentile(Double.NaN));
+    }
+
+    /**
+     * With a single timed frame every percentile is its duration.
+     */
+    @Test
+    public void testPercentileSingleValue() {
+        ChartCanvasMetrics metrics = new ChartCanvasMetrics();
+        metrics.frameDrawn(42L, 0L, 0);
+        assertEquals(42L, metrics.getDrawTimePercentile(0.0));
+        assertEquals(42L, metrics.getDrawTimePercentile(50.0));
+        assertEquals(42L, metrics.getDrawTimePercentile(100.0));
+    }
+
+    /**
+     * The percentiles use the nearest-rank method, whatever order the
+     * durations were recorded in.
+     */
+    @Test
+    public void testPercentileNearestRank() {
+        ChartCanvasMetrics metrics = new ChartCanvasMetrics();
+        for (int i = 100; i >= 1; i--) {
+            metrics.frameDrawn(i, 0L, 0);
+        }
+        assertEquals(1L, metrics.getDrawTimePercentile(0.0));
+        assertEquals(1L, metrics.getDrawTimePercentile(0.5));
+        assertEquals(1L, metrics.getDrawTimePercentile(1.0));
+        assertEquals(2L, metrics.getDrawTimePercentile(1.5));
+        assertEquals(50L, metrics.getDrawTimePercentile(50.0));
+        assertEquals(95L, metrics.getDrawTimePercentile(95.0));
+        assertEquals(99L, metrics.getDrawTimePercentile(99.0));
+        assertEquals(100L, metrics.getDrawTimePercentile(99.5));
+        assertEquals(100L, metrics.getDrawTimePercentile(100.0));
+        assertEquals(50.5, metrics.getMeanDrawTime(), 1e-9);
+    }
+
+    /**
+     * Only the most recent 1024 durations are used for the percentiles,
+     * while the mean covers all the timed frames.
+     */
+    @Test
+    public void testPercentileHistoryWrap() {
+        ChartCanvasMetrics metrics = new ChartCanvasMetrics();
+        for (int i = 0; i < 1024; i++) {
+            metrics.frameDrawn(1_000_000L, 0L, 0);
+        }
+        for (int i = 1; i <= 1024; i++) {
+            metrics.frameDrawn(i, 0L, 0);
+        }
+        assertEquals(1L, metrics.getDrawTimePercentile(0.0));
+        assertEquals(1024L, metrics.getDrawTimePercentile(100.0));
+        for (int i = 0; i < 500; i++) {
+            metrics.frameDrawn(5000L, 0L, 0);
+        }
+        assertEquals(501L, metrics.getDrawTimePercentile(0.0));
+        assertEquals(1023L, metrics.getDrawTimePercentile(51.0));
+        assertEquals(5000L, metrics.getDrawTimePercentile(52.0));
+        assertEquals(5000L, metrics.getDrawTimePercentile(100.0));
+        assertEquals(2548L, metrics.getRenderCount());
+        assertEquals(5000L, metrics.getLastDrawTime());
+    }
+
+    /**
+     * Resetting the metrics clears the history, and listeners are notified
+     * of every frame.
+     */
+    @Test
+    public void testResetAndListeners() {
+        ChartCanvasMetrics metrics = new ChartCanvasMetrics();
+        assertEquals(false, metrics.isCollecting());
+        int[] frames = new int[1];
+        ChartCanvasMetricsListener listener = m -> frames[0]++;
+        metrics.addListener(listener);
+        assertEquals(true, metrics.isCollecting());
+        metrics.frameDrawn(10L, 5L, 3);
+        metrics.frameDrawn(-1L, 0L, 4);
+        assertEquals(2, frames[0]);
+        assertEquals(4, metrics.getEntityCount());
+        assertEquals(5L, metrics.getChartDrawTime());
+        metrics.removeListener(listener);
+        metrics.reset();
+        assertEquals(0L, metrics.getRenderCount());
+        assertEquals(0L, metrics.getDrawTimePercentile(100.0));
+        assertEquals(0.0, metrics.getMeanDrawTime());
+    }
+
+}
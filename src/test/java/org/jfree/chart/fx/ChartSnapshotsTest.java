@@ -0,0 +1,185 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartSnapshotsTest.java
+ * -----------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.Color;
+import java.awt.Font;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.block.BlockContainer;
+import org.jfree.chart.block.ColumnArrangement;
+import org.jfree.chart.block.FlowArrangement;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.CompositeTitle;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.TextTitle;
+import org.jfree.chart.ui.HorizontalAlignment;
+import org.jfree.chart.ui.RectangleEdge;
+import org.jfree.chart.ui.VerticalAlignment;
+import org.jfree.chart.util.SortOrder;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link ChartSnapshots} class.
+ */
+public class ChartSnapshotsTest {
+
+    private static JFreeChart createChart(XYSeriesCollection dataset) {
+        return ChartFactory.createXYLineChart("Title", "X", "Y", dataset);
+    }
+
+    /**
+     * The legend of a snapshot reads the plot of the snapshot, so that it
+     * does not change when the original dataset changes.
+     */
+    @Test
+    public void testLegendUsesCopy() throws CloneNotSupportedException {
+        XYSeriesCollection dataset = new XYSeriesCollection(
+                new XYSeries("A"));
+        JFreeChart chart = createChart(dataset);
+        JFreeChart copy = ChartSnapshots.snapshot(chart);
+        LegendTitle legend = copy.getLegend();
+        assertSame(copy.getPlot(), legend.getSources()[0]);
+        assertSame(chart.getPlot(), chart.getLegend().getSources()[0]);
+
+        dataset.addSeries(new XYSeries("B"));
+        dataset.removeSeries(0);
+        LegendItemCollection items = legend.getSources()[0].getLegendItems();
+        assertEquals(1, items.getItemCount());
+        assertEquals("A", items.get(0).getLabel());
+        assertEquals("B", chart.getLegend().getSources()[0].getLegendItems()
+                .get(0).getLabel());
+    }
+
+    /**
+     * A legend that uses a renderer of the plot is pointed at the renderer
+     * of the copy.
+     */
+    @Test
+    public void testLegendRendererSource() throws CloneNotSupportedException {
+        JFreeChart chart = createChart(new XYSeriesCollection(
+                new XYSeries("A")));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        chart.getLegend().setSources(new LegendItemSource[] {
+                plot.getRenderer()});
+        JFreeChart copy = ChartSnapshots.snapshot(chart);
+        XYPlot copyPlot = (XYPlot) copy.getPlot();
+        assertNotSame(plot.getRenderer(), copyPlot.getRenderer());
+        assertSame(copyPlot.getRenderer(), copy.getLegend().getSources()[0]);
+        assertSame(plot.getRenderer(), chart.getLegend().getSources()[0]);
+    }
+
+    /**
+     * The legend of a snapshot has its own item container (which is refilled
+     * each time the legend is drawn) and the same settings as the original.
+     */
+    @Test
+    public void testLegendCopy() throws CloneNotSupportedException {
+        JFreeChart chart = createChart(new XYSeriesCollection(
+                new XYSeries("A")));
+        LegendTitle legend = chart.getLegend();
+        legend.setPosition(RectangleEdge.RIGHT);
+        legend.setItemPaint(Color.RED);
+        legend.setItemFont(new Font(Font.SERIF, Font.BOLD, 17));
+        legend.setSortOrder(SortOrder.DESCENDING);
+        chart.addSubtitle(new TextTitle("Subtitle"));
+        JFreeChart copy = ChartSnapshots.snapshot(chart);
+        LegendTitle copyLegend = copy.getLegend();
+        assertNotSame(legend, copyLegend);
+        assertNotSame(legend.getItemContainer(),
+                copyLegend.getItemContainer());
+        assertEquals(RectangleEdge.RIGHT, copyLegend.getPosition());
+        assertEquals(Color.RED, copyLegend.getItemPaint());
+        assertEquals(legend.getItemFont(), copyLegend.getItemFont());
+        assertEquals(SortOrder.DESCENDING, copyLegend.getSortOrder());
+        assertEquals(chart.getSubtitleCount(), copy.getSubtitleCount());
+        assertSame(copyLegend, copy.getSubtitle(0));
+    }
+
+    /**
+     * Titles that share parts with the original chart are not copied.
+     */
+    @Test
+    public void testCopiesTitles() {
+        JFreeChart chart = createChart(new XYSeriesCollection(
+                new XYSeries("A")));
+        assertTrue(ChartSnapshots.copiesTitles(chart));
+        chart.getLegend().setWrapper(new BlockContainer());
+        assertFalse(ChartSnapshots.copiesTitles(chart));
+
+        chart.removeLegend();
+        chart.addLegend(new LegendTitle(chart.getPlot(),
+                new FlowArrangement(HorizontalAlignment.LEFT,
+                VerticalAlignment.TOP, 5.0, 5.0), new ColumnArrangement()));
+        assertFalse(ChartSnapshots.copiesTitles(chart));
+        assertFalse(ChartSnapshots.copiesAllDatasets(chart));
+    }
+
+    /**
+     * A chart is only copied completely if its legends can be pointed at
+     * the copy.
+     */
+    @Test
+    public void testCopiesAllDatasetsLegends() {
+        JFreeChart chart = createChart(new XYSeriesCollection(
+                new XYSeries("A")));
+        assertTrue(ChartSnapshots.copiesAllDatasets(chart));
+
+        JFreeChart other = createChart(new XYSeriesCollection());
+        chart.getLegend().setSources(new LegendItemSource[] {
+                chart.getPlot(), other.getPlot()});
+        assertFalse(ChartSnapshots.copiesAllDatasets(chart));
+
+        chart.removeLegend();
+        assertTrue(ChartSnapshots.copiesAllDatasets(chart));
+        CompositeTitle composite = new CompositeTitle();
+        composite.getContainer().add(new LegendTitle(chart.getPlot()));
+        chart.addSubtitle(composite);
+        assertFalse(ChartSnapshots.copiesAllDatasets(chart));
+    }
+
+}
@@ -0,0 +1,156 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * EntityIndexTest.java
+ * --------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the {@link EntityIndex} class.
+ */
+public class EntityIndexTest {
+
+    /**
+     * Creates an entity with a rectangular area.
+     */
+    private static ChartEntity entity(double x, double y, double w,
+            double h) {
+        return new ChartEntity(new Rectangle2D.Double(x, y, w, h));
+    }
+
+    /**
+     * The index returns the same entity as a linear scan of the collection
+     * (the most recently added entity containing the point), including
+     * where entities overlap.
+     */
+    @Test
+    public void testMatchesLinearScan() {
+        Random random = new Random(42L);
+        EntityCollection entities = new StandardEntityCollection();
+        for (int i = 0; i < 2000; i++) {
+            entities.add(entity(random.nextDouble() * 600,
+                    random.nextDouble() * 400, 1 + random.nextDouble() * 40,
+                    1 + random.nextDouble() * 40));
+        }
+        entities.add(entity(0, 0, 640, 440));  // covers everything
+        entities.add(entity(100, 100, 5, 5));
+        EntityIndex index = new EntityIndex(entities,
+                new Rectangle2D.Double(0, 0, 640, 440));
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 640;
+            double y = random.nextDouble() * 440;
+            assertSame(entities.getEntity(x, y), index.getEntity(x, y));
+        }
+    }
+
+    /**
+     * A repeated lookup returns the cached entity, but never hides an
+     * entity that is on top of it.
+     */
+    @Test
+    public void testLastLookupCache() {
+        EntityCollection entities = new StandardEntityCollection();
+        ChartEntity big = entity(0, 0, 100, 100);
+        ChartEntity small = entity(10, 10, 5, 5);
+        entities.add(big);
+        entities.add(small);
+        EntityIndex index = new EntityIndex(entities,
+                new Rectangle2D.Double(0, 0, 100, 100));
+        assertSame(small, index.getEntity(12, 12));
+        assertSame(small, index.getEntity(13, 13));
+        assertSame(big, index.getEntity(8, 8));
+        assertSame(small, index.getEntity(11, 11));
+        assertSame(big, index.getEntity(90, 90));
+        assertSame(big, index.getEntity(91, 91));
+    }
+
+    /**
+     * Points outside the grid fall back to the collection, and an empty
+     * collection has no entities.
+     */
+    @Test
+    public void testOutsideGridAndEmpty() {
+        EntityCollection entities = new StandardEntityCollection();
+        ChartEntity outside = entity(200, 200, 10, 10);
+        entities.add(outside);
+        EntityIndex index = new EntityIndex(entities,
+                new Rectangle2D.Double(0, 0, 100, 100));
+        assertSame(outside, index.getEntity(205, 205));
+        assertNull(index.getEntity(50, 50));
+        EntityIndex empty = new EntityIndex(new StandardEntityCollection(),
+                new Rectangle2D.Double(0, 0, 100, 100));
+        assertNull(empty.getEntity(50, 50));
+    }
+
+    /**
+     * The candidates are all the entities containing a point, topmost
+     * first, inside and outside the grid.
+     */
+    @Test
+    public void testCandidates() {
+        EntityCollection entities = new StandardEntityCollection();
+        ChartEntity big = entity(0, 0, 100, 100);
+        ChartEntity middle = entity(5, 5, 50, 50);
+        ChartEntity small = entity(10, 10, 5, 5);
+        ChartEntity outside = entity(150, 150, 100, 100);
+        ChartEntity outsideTop = entity(200, 200, 10, 10);
+        entities.add(big);
+        entities.add(middle);
+        entities.add(small);
+        entities.add(outside);
+        entities.add(outsideTop);
+        EntityIndex index = new EntityIndex(entities,
+                new Rectangle2D.Double(0, 0, 100, 100));
+        assertEquals(Arrays.asList(small, middle, big),
+                index.getCandidates(12, 12));
+        assertEquals(Arrays.asList(middle, big), index.getCandidates(30, 30));
+        assertEquals(Arrays.asList(outsideTop, outside),
+                index.getCandidates(205, 205));
+        assertEquals(Collections.emptyList(), index.getCandidates(120, 50));
+    }
+
+}
@@ -0,0 +1,172 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * ColumnarXYDatasetTest.java
+ * --------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link ColumnarXYDataset} class.
+ */
+public class ColumnarXYDatasetTest {
+
+    /**
+     * The unrolled minimum and maximum match a simple loop for every
+     * length (including lengths that are not a multiple of four) and
+     * ignore {@code NaN} values.
+     */
+    @Test
+    public void testMinMax() {
+        Random random = new Random(3L);
+        double[] values = new double[37];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 5 == 0 ? Double.NaN : random.nextGaussian();
+        }
+        for (int from = 0; from < 6; from++) {
+            for (int to = from; to <= values.length; to++) {
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int i = from; i < to; i++) {
+                    if (!Double.isNaN(values[i])) {
+                        min = Math.min(min, values[i]);
+                        max = Math.max(max, values[i]);
+                    }
+                }
+                double[] minMax = ColumnarXYDataset.minMax(values, from, to);
+                assertEquals(min, minMax[0]);
+                assertEquals(max, minMax[1]);
+            }
+        }
+    }
+
+    /**
+     * With no values (or only {@code NaN} values) the minimum is greater
+     * than the maximum.
+     */
+    @Test
+    public void testMinMaxEmpty() {
+        double[] minMax = ColumnarXYDataset.minMax(new double[0], 0, 0);
+        assertTrue(minMax[0] > minMax[1]);
+        minMax = ColumnarXYDataset.minMax(
+                new double[] {Double.NaN, Double.NaN}, 0, 2);
+        assertTrue(minMax[0] > minMax[1]);
+    }
+
+    /**
+     * The bounds for a window of x-values are the same for sorted and
+     * unsorted series.
+     */
+    @Test
+    public void testRangeBoundsForWindow() {
+        double[] x = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        double[] y = {5, -3, 8, 2, Double.NaN, 7, -9, 1, 4, 6};
+        double[] ux = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        double[] uy = {6, 4, 1, -9, 7, Double.NaN, 2, 8, -3, 5};
+        ColumnarXYDataset d = new ColumnarXYDataset();
+        d.addSeries("Sorted", x, y);
+        d.addSeries("Unsorted", ux, uy);
+        assertTrue(d.isSorted(0));
+        assertFalse(d.isSorted(1));
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        for (int s = 0; s < 2; s++) {
+            assertEquals(new Range(-9.0, 8.0), d.getRangeBounds(s, 0, 9));
+            assertEquals(new Range(-3.0, 8.0), d.getRangeBounds(s, 1, 3));
+            assertEquals(new Range(-9.0, 7.0), d.getRangeBounds(s, 4, 6));
+            assertEquals(new Range(2.0, 8.0), d.getRangeBounds(s, 1.5,
+                    3.5));
+            assertNull(d.getRangeBounds(s, 4.0, 4.0));  // NaN only
+            assertNull(d.getRangeBounds(s, 10.0, 20.0));
+        }
+        assertEquals(new Range(-9.0, 8.0), d.getRangeBounds(
+                Arrays.asList("Sorted"), new Range(2.0, 7.0), false));
+    }
+
+    /**
+     * The dataset bounds are calculated when a series is added and
+     * updated when it is replaced or removed.
+     */
+    @Test
+    public void testBounds() {
+        ColumnarXYDataset d = new ColumnarXYDataset();
+        assertNull(d.getDomainBounds(false));
+        d.addSeries("S1", new double[] {1, 2, 3}, new double[] {4, 5, 6});
+        d.addSeries("S2", new double[] {-1, 0}, new double[] {10, 11});
+        assertEquals(new Range(-1.0, 3.0), d.getDomainBounds(false));
+        assertEquals(new Range(4.0, 11.0), d.getRangeBounds(false));
+        assertEquals(new Range(1.0, 3.0),
+                d.getDomainBounds(Arrays.asList("S1"), false));
+        d.addSeries("S2", new double[] {0}, new double[] {0});
+        assertEquals(2, d.getSeriesCount());
+        assertEquals(new Range(0.0, 6.0), d.getRangeBounds(false));
+        d.removeSeries("S1");
+        assertEquals(new Range(0.0, 0.0), d.getDomainBounds(false));
+        assertThrows(IllegalArgumentException.class,
+                () -> d.addSeries("S3", new double[1], new double[2]));
+    }
+
+    /**
+     * A clone has its own list of series, so later changes to the dataset
+     * do not affect it.
+     */
+    @Test
+    public void testClone() throws CloneNotSupportedException {
+        double[] x = {1, 2, 3};
+        double[] y = {4, 5, 6};
+        ColumnarXYDataset d = new ColumnarXYDataset();
+        d.addSeries("S1", x, y);
+        ColumnarXYDataset clone = (ColumnarXYDataset) d.clone();
+        assertNotSame(d, clone);
+        d.addSeries("S2", new double[] {7}, new double[] {8});
+        d.addSeries("S1", new double[] {9}, new double[] {10});
+        assertEquals(1, clone.getSeriesCount());
+        assertEquals(5.0, clone.getYValue(0, 1));
+        assertEquals(new Range(4.0, 6.0), clone.getRangeBounds(false));
+        d.removeSeries("S1");
+        assertEquals(3, clone.getItemCount(0));
+    }
+
+}
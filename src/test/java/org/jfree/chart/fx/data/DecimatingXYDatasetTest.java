@@ -0,0 +1,215 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DecimatingXYDatasetTest.java
+ * ----------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link DecimatingXYDataset} class.
+ */
+public class DecimatingXYDatasetTest {
+
+    /**
+     * Creates a dataset with one series of random y-values at x = 0, 1,
+     * 2, ...
+     */
+    private static XYSeriesCollection createSource(int n, boolean sorted) {
+        XYSeries series = new XYSeries("S1", sorted, true);
+        Random random = new Random(7L);
+        for (int i = 0; i < n; i++) {
+            series.add(i, random.nextGaussian());
+        }
+        return new XYSeriesCollection(series);
+    }
+
+    /**
+     * Until a viewport is set, the items are passed through unchanged.
+     */
+    @Test
+    public void testPassThrough() {
+        XYSeriesCollection source = createSource(500, true);
+        DecimatingXYDataset d = new DecimatingXYDataset(source);
+        assertFalse(d.isDecimating());
+        assertEquals(500, d.getItemCount(0));
+        assertEquals(source.getYValue(0, 123), d.getYValue(0, 123));
+    }
+
+    /**
+     * A source that is not in ascending order of x-value is not reduced.
+     */
+    @Test
+    public void testUnsortedSource() {
+        DecimatingXYDataset d = new DecimatingXYDataset(
+                createSource(500, false));
+        d.setViewport(0.0, 499.0, 10);
+        assertFalse(d.isDecimating());
+        assertEquals(500, d.getItemCount(0));
+    }
+
+    /**
+     * The reduced items are in ascending order, keep the first and last
+     * source items and include the lowest and highest item of every pixel
+     * column, with no more than four items per column.
+     */
+    @Test
+    public void testOrderAndExtremes() {
+        int n = 10000;
+        int pixels = 50;
+        XYSeriesCollection source = createSource(n, true);
+        DecimatingXYDataset d = new DecimatingXYDataset(source);
+        d.setViewport(0.0, n - 1, pixels);
+        assertTrue(d.isDecimating());
+        int count = d.getItemCount(0);
+        assertTrue(count <= 4 * pixels + 2);
+        for (int i = 1; i < count; i++) {
+            assertTrue(d.getXValue(0, i - 1) < d.getXValue(0, i));
+        }
+        assertEquals(0.0, d.getXValue(0, 0));
+        assertEquals(n - 1, d.getXValue(0, count - 1));
+
+        double scale = pixels / (n - 1.0);
+        double[] min = new double[pixels];
+        double[] max = new double[pixels];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        for (int i = 1; i < n - 1; i++) {
+            int c = Math.min(pixels - 1, (int) (i * scale));
+            min[c] = Math.min(min[c], source.getYValue(0, i));
+            max[c] = Math.max(max[c], source.getYValue(0, i));
+        }
+        double[] keptMin = new double[pixels];
+        double[] keptMax = new double[pixels];
+        int[] perColumn = new int[pixels];
+        Arrays.fill(keptMin, Double.POSITIVE_INFINITY);
+        Arrays.fill(keptMax, Double.NEGATIVE_INFINITY);
+        for (int i = 1; i < count - 1; i++) {
+            int c = Math.min(pixels - 1, (int) (d.getXValue(0, i) * scale));
+            keptMin[c] = Math.min(keptMin[c], d.getYValue(0, i));
+            keptMax[c] = Math.max(keptMax[c], d.getYValue(0, i));
+            perColumn[c]++;
+        }
+        for (int c = 0; c < pixels; c++) {
+            assertEquals(min[c], keptMin[c]);
+            assertEquals(max[c], keptMax[c]);
+            assertTrue(perColumn[c] <= 4);
+        }
+    }
+
+    /**
+     * Only the items in the viewport (and one either side) are kept.
+     */
+    @Test
+    public void testViewport() {
+        DecimatingXYDataset d = new DecimatingXYDataset(
+                createSource(10000, true));
+        d.setViewport(2000.0, 3000.0, 20);
+        int count = d.getItemCount(0);
+        assertEquals(1999.0, d.getXValue(0, 0));
+        assertEquals(3001.0, d.getXValue(0, count - 1));
+    }
+
+    /**
+     * The bounds are those of the full source data, whatever the viewport.
+     */
+    @Test
+    public void testBounds() {
+        XYSeriesCollection source = createSource(10000, true);
+        DecimatingXYDataset d = new DecimatingXYDataset(source);
+        d.setViewport(2000.0, 3000.0, 20);
+        assertEquals(new Range(0.0, 9999.0), d.getDomainBounds(false));
+        assertEquals(source.getRangeBounds(false), d.getRangeBounds(false));
+        assertEquals(new Range(0.0, 9999.0),
+                d.getDomainBounds(Arrays.asList("S1"), false));
+
+        // bounds follow changes to the source
+        source.getSeries(0).add(20000.0, 100.0);
+        assertEquals(new Range(0.0, 20000.0), d.getDomainBounds(false));
+        assertEquals(100.0, d.getRangeUpperBound(false));
+    }
+
+    /**
+     * An item with a {@code NaN} y-value is kept so that the line has a
+     * gap in the same place.
+     */
+    @Test
+    public void testGapIsKept() {
+        XYSeriesCollection source = createSource(10000, true);
+        source.getSeries(0).updateByIndex(5000, Double.NaN);
+        DecimatingXYDataset d = new DecimatingXYDataset(source);
+        d.setViewport(0.0, 9999.0, 10);
+        boolean found = false;
+        for (int i = 0; i < d.getItemCount(0); i++) {
+            if (Double.isNaN(d.getYValue(0, i))) {
+                assertEquals(5000.0, d.getXValue(0, i));
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
+    /**
+     * A clone has its own copy of the reduced items and of the source, so
+     * it does not change when the original source changes.
+     */
+    @Test
+    public void testClone() throws CloneNotSupportedException {
+        XYSeriesCollection source = createSource(10000, true);
+        DecimatingXYDataset d = new DecimatingXYDataset(source);
+        d.setViewport(0.0, 9999.0, 20);
+        DecimatingXYDataset clone = (DecimatingXYDataset) d.clone();
+        assertNotSame(d.getSource(), clone.getSource());
+        int count = d.getItemCount(0);
+        assertEquals(count, clone.getItemCount(0));
+        double y = d.getYValue(0, 1);
+        source.getSeries(0).add(20000.0, 100.0);
+        d.setViewport(0.0, 20000.0, 10);
+        assertEquals(count, clone.getItemCount(0));
+        assertEquals(y, clone.getYValue(0, 1));
+        assertEquals(new Range(0.0, 9999.0), clone.getDomainBounds(false));
+    }
+
+}
@@ -0,0 +1,220 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * StreamingXYDatasetTest.java
+ * ---------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link StreamingXYDataset} class.  The JavaFX toolkit is
+ * not running in these tests, so the appended items are published by
+ * calling {@code publish()}.
+ */
+public class StreamingXYDatasetTest {
+
+    /**
+     * Checks that the x-values of a series run from {@code first} in steps
+     * of one, and that each y-value is ten times the x-value.
+     */
+    private static void assertItems(StreamingXYDataset d, int series,
+            int first, int count) {
+        assertEquals(count, d.getItemCount(series));
+        for (int i = 0; i < count; i++) {
+            assertEquals(first + i, d.getXValue(series, i));
+            assertEquals(10.0 * (first + i), d.getYValue(series, i));
+        }
+    }
+
+    /**
+     * The capacity must be positive.
+     */
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingXYDataset(0, "S1"));
+    }
+
+    /**
+     * Appended items are only visible once they are published, with one
+     * change event for all of them.
+     */
+    @Test
+    public void testPublish() {
+        StreamingXYDataset d = new StreamingXYDataset(10, "S1");
+        int[] events = new int[1];
+        d.addChangeListener(e -> events[0]++);
+        d.append(0, 0.0, 0.0);
+        d.append(0, 1.0, 10.0);
+        assertEquals(0, d.getItemCount(0));
+        d.publish();
+        assertItems(d, 0, 0, 2);
+        assertEquals(1, events[0]);
+        d.publish();  // nothing staged, no event
+        assertEquals(1, events[0]);
+    }
+
+    /**
+     * When a series is full the oldest items are discarded, including when
+     * the ring buffer wraps over several publications.
+     */
+    @Test
+    public void testWrapAndCapacity() {
+        StreamingXYDataset d = new StreamingXYDataset(10, "S1", "S2");
+        for (int i = 0; i < 13; i++) {
+            d.append(0, i, 10.0 * i);
+        }
+        d.publish();
+        assertItems(d, 0, 3, 10);
+        assertEquals(0, d.getItemCount(1));
+        for (int i = 13; i < 30; i++) {
+            d.append(0, i, 10.0 * i);
+            if (i % 4 == 0) {
+                d.publish();
+            }
+        }
+        d.publish();
+        assertItems(d, 0, 20, 10);
+        assertEquals(new Range(20.0, 29.0), d.getDomainBounds(false));
+    }
+
+    /**
+     * A bulk append of more items than the capacity keeps the last items.
+     */
+    @Test
+    public void testBulkAppend() {
+        StreamingXYDataset d = new StreamingXYDataset(8, "S1");
+        double[] x = new double[25];
+        double[] y = new double[25];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = 10.0 * i;
+        }
+        d.append(0, x, y, 0, 5);
+        d.publish();
+        d.append(0, x, y, 5, 20);
+        d.publish();
+        assertItems(d, 0, 17, 8);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> d.append(0, x, y, 20, 6));
+    }
+
+    /**
+     * The domain order and bounds reflect items appended out of order.
+     */
+    @Test
+    public void testDomainOrder() {
+        StreamingXYDataset d = new StreamingXYDataset(10, "S1");
+        assertNull(d.getDomainBounds(false));
+        d.append(0, 5.0, 0.0);
+        d.append(0, 7.0, 0.0);
+        d.publish();
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        d.append(0, 2.0, 0.0);
+        d.publish();
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertEquals(new Range(2.0, 7.0), d.getDomainBounds(false));
+        assertEquals(new Range(2.0, 7.0),
+                d.getDomainBounds(Arrays.asList("S1"), false));
+        d.clear();
+        assertEquals(0, d.getItemCount(0));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+    }
+
+    /**
+     * A clone has a copy of the items that does not change when items are
+     * published to the original.
+     */
+    @Test
+    public void testClone() throws CloneNotSupportedException {
+        StreamingXYDataset d = new StreamingXYDataset(10, "S1");
+        for (int i = 0; i < 14; i++) {
+            d.append(0, i, 10.0 * i);
+        }
+        d.publish();
+        d.append(0, 14.0, 140.0);  // staged only
+        StreamingXYDataset clone = (StreamingXYDataset) d.clone();
+        assertNotSame(d, clone);
+        assertItems(clone, 0, 4, 10);
+        d.append(0, 15.0, 150.0);
+        d.publish();
+        assertItems(d, 0, 6, 10);
+        assertItems(clone, 0, 4, 10);
+        clone.publish();
+        assertItems(clone, 0, 5, 10);
+    }
+
+    /**
+     * A deserialized dataset has the items of the original and can publish
+     * new items.
+     */
+    @Test
+    public void testSerialization() throws IOException,
+            ClassNotFoundException {
+        StreamingXYDataset d = new StreamingXYDataset(10, "S1");
+        for (int i = 0; i < 12; i++) {
+            d.append(0, i, 10.0 * i);
+        }
+        d.publish();
+        d.append(0, 12.0, 120.0);  // staged only
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(d);
+        }
+        StreamingXYDataset copy;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()))) {
+            copy = (StreamingXYDataset) in.readObject();
+        }
+        assertItems(copy, 0, 2, 10);
+        copy.append(0, 13.0, 130.0);
+        copy.publish();
+        assertItems(copy, 0, 4, 10);
+    }
+
+}
@@ -0,0 +1,167 @@
+/* ================================================
+ * JFreeChart-FX : JavaFX extensions for JFreeChart
+ * ================================================
+ *
+ * (C) Copyright 2017-present, by David Gilbert and Contributors.
+ *
+ * Project Info:  https://github.com/jfree/jfreechart-fx
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------------
+ * XYLineAndShapeRendererFXBenchmark.java
+ * --------------------------------------
+ * (C) Copyright 2026-present, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.fx.renderer;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import javafx.application.Platform;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.fx.ChartCanvas;
+import org.jfree.chart.fx.data.ColumnarXYDataset;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+
+/**
+ * A benchmark that compares the time taken to draw a large series in a
+ * {@link ChartCanvas} with an {@link XYLineAndShapeRenderer} and with an
+ * {@link XYLineAndShapeRendererFX}.  This is not a unit test:  it starts
+ * the JavaFX toolkit (so it needs a display) and is run from the command
+ * line with the test classpath, for example:
+ * <pre>
+ * java -cp ... org.jfree.chart.fx.renderer.XYLineAndShapeRendererFXBenchmark
+ *         [items] [shapes]</pre>
+ * The first argument is the number of items in the series (the default is
+ * 1,000,000) and the second is {@code true} to draw shapes as well as
+ * lines.  For each renderer the time to draw the chart and the time to
+ * draw it and rasterize the canvas (with a snapshot) are reported.
+ */
+public class XYLineAndShapeRendererFXBenchmark {
+
+    /** The number of draws before timing starts. */
+    private static final int WARM_UP = 10;
+
+    /** The number of timed draws. */
+    private static final int RUNS = 20;
+
+    /** The canvas width. */
+    private static final double WIDTH = 1200.0;
+
+    /** The canvas height. */
+    private static final double HEIGHT = 700.0;
+
+    private XYLineAndShapeRendererFXBenchmark() {
+        // run from main()
+    }
+
+    /**
+     * Creates a dataset with one series that is a random walk.
+     *
+     * @param items  the number of items.
+     *
+     * @return The dataset.
+     */
+    private static ColumnarXYDataset createDataset(int items) {
+        Random random = new Random(1L);
+        double[] x = new double[items];
+        double[] y = new double[items];
+        double value = 0.0;
+        for (int i = 0; i < items; i++) {
+            value += random.nextGaussian();
+            x[i] = i;
+            y[i] = value;
+        }
+        ColumnarXYDataset dataset = new ColumnarXYDataset();
+        dataset.addSeries("Random Walk", x, y);
+        return dataset;
+    }
+
+    /**
+     * Draws the chart with a renderer and prints the mean times.
+     *
+     * @param canvas  the canvas.
+     * @param renderer  the renderer.
+     */
+    private static void time(ChartCanvas canvas, XYItemRenderer renderer) {
+        JFreeChart chart = canvas.getChart();
+        chart.getXYPlot().setRenderer(renderer);
+        for (int i = 0; i < WARM_UP; i++) {
+            canvas.draw();
+            canvas.snapshot(null, null);
+        }
+        long drawTime = 0L;
+        long totalTime = 0L;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            canvas.draw();
+            long drawn = System.nanoTime();
+            // the canvas commands are only rasterized when it is rendered
+            canvas.snapshot(null, null);
+            long end = System.nanoTime();
+            drawTime += drawn - start;
+            totalTime += end - start;
+        }
+        System.out.printf(Locale.ROOT,
+                "%-26s draw %9.2f ms   draw + rasterize %9.2f ms%n",
+                renderer.getClass().getSimpleName(),
+                drawTime / (RUNS * 1e6), totalTime / (RUNS * 1e6));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args  the number of items and whether shapes are drawn
+     *     (both optional).
+     *
+     * @throws InterruptedException if interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int items = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        boolean shapes = args.length > 1 && Boolean.parseBoolean(args[1]);
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                JFreeChart chart = ChartFactory.createXYLineChart(
+                        "Benchmark", "X", "Y", createDataset(items));
+                ChartCanvas canvas = new ChartCanvas(chart);
+                canvas.setWidth(WIDTH);
+                canvas.setHeight(HEIGHT);
+                System.out.printf(Locale.ROOT,
+                        "%,d items, shapes %s, %d runs%n", items,
+                        shapes ? "on" : "off", RUNS);
+                time(canvas, new XYLineAndShapeRenderer(true, shapes));
+                time(canvas, new XYLineAndShapeRendererFX(true, shapes));
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+}